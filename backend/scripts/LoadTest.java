@@ -0,0 +1,119 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-model HTTP load generator used by load-test.sh
+ * Each of the N clients sends GET requests back to back, cycling through the
+ * given paths, and the run reports throughput and latency percentiles.
+ *
+ * Usage: java scripts/LoadTest.java baseUrl clients warmupSeconds durationSeconds path...
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("Usage: java LoadTest.java baseUrl clients warmupSeconds durationSeconds path...");
+            System.exit(1);
+        }
+        String baseUrl = args[0];
+        int clients = Integer.parseInt(args[1]);
+        long warmupNanos = Duration.ofSeconds(Long.parseLong(args[2])).toNanos();
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[3])).toNanos();
+        List<URI> uris = Arrays.stream(args, 4, args.length).map(path -> URI.create(baseUrl + path)).toList();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+
+        List<Future<Result>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int offset = i;
+                futures.add(executor.submit(() -> runClient(httpClient, uris, offset, measureFrom, end)));
+            }
+        }
+
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.merge(future.get());
+        }
+        total.print(clients, durationNanos);
+    }
+
+    private static Result runClient(HttpClient httpClient, List<URI> uris, int offset, long measureFrom, long end) {
+        Result result = new Result();
+        int i = offset;
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            HttpRequest request = HttpRequest.newBuilder(uris.get(i++ % uris.size()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() / 100 == 2;
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (now >= measureFrom) {
+                result.record(System.nanoTime() - now, ok);
+            }
+        }
+        return result;
+    }
+
+    private static final class Result {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Result other) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        void print(int clients, long durationNanos) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            double seconds = durationNanos / 1e9;
+            System.out.printf("clients=%d requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                    clients, count, errors, count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
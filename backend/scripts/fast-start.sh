@@ -0,0 +1,103 @@
+#!/bin/sh
+# ===========================================
+# Fast-start launcher for the backend
+# ===========================================
+# Runs the application from the unpacked jar with:
+#   - an AppCDS archive recorded by a training run
+#   - optionally, Spring AOT generated bean definitions (SPRING_AOT=true,
+#     jar built with -Pfast-start)
+#
+# AOT is opt-in because it evaluates @Conditional* at build time: properties
+# such as spring.threads.virtual.enabled are then fixed by the build and
+# ignored at runtime (see the fast-start profile in pom.xml).
+#
+# Usage:
+#   scripts/fast-start.sh unpack  # unpack the jar only
+#   scripts/fast-start.sh train   # unpack the jar if needed and record the CDS archive
+#   scripts/fast-start.sh [args]  # start the application (args go to Spring)
+#
+# Environment:
+#   APP_JAR          jar to run (default: target/*.jar)
+#   FAST_START_DIR   where the jar is unpacked (default: target/fast-start)
+#   JAVA_OPTS        extra JVM options
+#   SPRING_AOT       true to use the AOT bean definitions (default: false)
+set -e
+
+APP_HOME=$(cd "$(dirname "$0")/.." && pwd)
+JAR=${APP_JAR:-$(ls "$APP_HOME"/target/*.jar 2>/dev/null | head -n 1)}
+WORK_DIR=${FAST_START_DIR:-$APP_HOME/target/fast-start}
+APP_DIR=$WORK_DIR/app
+ARCHIVE=$WORK_DIR/app.jsa
+MAIN_CLASS=com.portfolio.backend.PortfolioBackendApplication
+
+# Training and run must agree, the archive only holds the classes that were loaded
+AOT_OPTS=""
+if [ "${SPRING_AOT:-false}" = "true" ]; then
+    AOT_OPTS="-Dspring.aot.enabled=true"
+fi
+
+unpack() {
+    if [ -z "$JAR" ] || [ ! -f "$JAR" ]; then
+        echo "No application jar found, build it with: mvn package" >&2
+        exit 1
+    fi
+    rm -rf "$APP_DIR"
+    mkdir -p "$APP_DIR"
+    (cd "$APP_DIR" && unzip -q "$JAR")
+    # CDS only archives classes loaded from jars, not from directories
+    if command -v jar >/dev/null 2>&1; then
+        jar cf "$APP_DIR/application.jar" -C "$APP_DIR/BOOT-INF/classes" .
+    else
+        (cd "$APP_DIR/BOOT-INF/classes" && zip -qr "$APP_DIR/application.jar" .)
+    fi
+    rm -rf "$APP_DIR/BOOT-INF/classes"
+}
+
+# CDS requires the exact same class path at training and run time, so it is
+# built from the ordered classpath.idx rather than a wildcard.
+classpath() {
+    CP=$APP_DIR/application.jar
+    for lib in $(sed -n 's/^- "\(.*\)"$/\1/p' "$APP_DIR/BOOT-INF/classpath.idx"); do
+        CP=$CP:$APP_DIR/$lib
+    done
+    echo "$CP"
+}
+
+# Unpack unless an up-to-date copy exists (the jar may be absent in images)
+ensure_unpacked() {
+    if [ ! -d "$APP_DIR" ] || { [ -n "$JAR" ] && [ "$JAR" -nt "$APP_DIR" ]; }; then
+        unpack
+    fi
+}
+
+if [ "$1" = "unpack" ]; then
+    unpack
+    exit 0
+fi
+
+if [ "$1" = "train" ]; then
+    ensure_unpacked
+    rm -f "$ARCHIVE"
+    echo "Recording AppCDS archive in $ARCHIVE"
+    # shellcheck disable=SC2086
+    java $JAVA_OPTS $AOT_OPTS \
+        -XX:ArchiveClassesAtExit="$ARCHIVE" \
+        -Dspring.context.exit=onRefresh \
+        -Dspring.profiles.active="${SPRING_PROFILES_ACTIVE:-prod},training" \
+        -cp "$(classpath)" "$MAIN_CLASS"
+    exit 0
+fi
+
+ensure_unpacked
+
+CDS_OPTS=""
+if [ -f "$ARCHIVE" ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=$ARCHIVE"
+else
+    echo "No AppCDS archive found, run '$0 train' first. Starting without it." >&2
+fi
+
+# shellcheck disable=SC2086
+exec java $JAVA_OPTS $AOT_OPTS $CDS_OPTS \
+    -Dspring.profiles.active="${SPRING_PROFILES_ACTIVE:-prod}" \
+    -cp "$(classpath)" "$MAIN_CLASS" "$@"
@@ -0,0 +1,83 @@
+#!/bin/sh
+# ===========================================
+# Platform threads vs virtual threads vs reactive load test
+# ===========================================
+# Starts the application once per mode, drives the public read API with
+# scripts/LoadTest.java and prints throughput and p50/p99 latency.
+#   platform  servlet stack on Tomcat's thread pool
+#   virtual   servlet stack on virtual threads
+#   reactive  WebFlux + R2DBC application (PortfolioReactiveApplication)
+#
+# Usage:
+#   scripts/load-test.sh [spring args...]
+#
+# Environment:
+#   MODES      modes to compare (default: "platform virtual")
+#   POOL_SIZE  database connections for every mode (default: application settings)
+#   CLIENTS    concurrent clients (default: 200)
+#   WARMUP     warm-up seconds, not measured (default: 15)
+#   DURATION   measured seconds (default: 30)
+#   PORT       port used by the application (default: 8080)
+#   APP_JAR    jar to run (default: target/*.jar)
+set -e
+
+APP_HOME=$(cd "$(dirname "$0")/.." && pwd)
+JAR=${APP_JAR:-$(ls "$APP_HOME"/target/*.jar 2>/dev/null | head -n 1)}
+MODES=${MODES:-platform virtual}
+CLIENTS=${CLIENTS:-200}
+WARMUP=${WARMUP:-15}
+DURATION=${DURATION:-30}
+PORT=${PORT:-8080}
+BASE_URL=http://localhost:$PORT
+REACTIVE_MAIN=com.portfolio.backend.reactive.PortfolioReactiveApplication
+PATHS="/api/v1/about /api/v1/projects /api/v1/skills /api/v1/experiences /api/v1/education"
+
+if [ -z "$JAR" ] || [ ! -f "$JAR" ]; then
+    echo "No application jar found, build it with: mvn package" >&2
+    exit 1
+fi
+
+if [ -n "$POOL_SIZE" ]; then
+    export DB_POOL_SIZE=$POOL_SIZE R2DBC_POOL_SIZE=$POOL_SIZE
+fi
+
+for mode in $MODES; do
+    LOG=$APP_HOME/target/load-test-$mode.log
+    # shellcheck disable=SC2086
+    case "$mode" in
+        platform)
+            VIRTUAL_THREADS=false java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" "$@" >"$LOG" 2>&1 &
+            ;;
+        virtual)
+            VIRTUAL_THREADS=true java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" "$@" >"$LOG" 2>&1 &
+            ;;
+        reactive)
+            # Same jar, other main class
+            java $JAVA_OPTS -cp "$JAR" -Dloader.main="$REACTIVE_MAIN" \
+                org.springframework.boot.loader.launch.PropertiesLauncher --server.port="$PORT" "$@" >"$LOG" 2>&1 &
+            ;;
+        *)
+            echo "Unknown mode '$mode', expected 'platform', 'virtual' or 'reactive'" >&2
+            exit 1
+            ;;
+    esac
+    PID=$!
+
+    i=0
+    until curl -sf -o /dev/null "$BASE_URL/actuator/health/readiness"; do
+        i=$((i + 1))
+        if [ "$i" -gt 240 ] || ! kill -0 "$PID" 2>/dev/null; then
+            echo "Application did not become ready, see target/load-test-$mode.log" >&2
+            kill "$PID" 2>/dev/null || true
+            exit 1
+        fi
+        sleep 0.5
+    done
+
+    printf "%s: " "$mode"
+    # shellcheck disable=SC2086
+    java "$APP_HOME/scripts/LoadTest.java" "$BASE_URL" "$CLIENTS" "$WARMUP" "$DURATION" $PATHS
+
+    kill "$PID"
+    wait "$PID" 2>/dev/null || true
+done
@@ -0,0 +1,80 @@
+#!/bin/sh
+# ===========================================
+# Startup benchmark
+# ===========================================
+# Starts the application several times and reports the time until the first
+# successful response of GET /api/v1/about.
+#
+# Usage:
+#   scripts/startup-benchmark.sh default [runs] [spring args...]   # java -jar
+#   scripts/startup-benchmark.sh fast [runs] [spring args...]      # AppCDS (+ AOT)
+#
+# The fast mode expects 'scripts/fast-start.sh train'. To include Spring AOT,
+# build with 'mvn package -Pfast-start' and set SPRING_AOT=true for both.
+#
+# Environment:
+#   PORT       port used by the application (default: 8080)
+#   TIMEOUT    seconds to wait for a single start (default: 120)
+set -e
+
+APP_HOME=$(cd "$(dirname "$0")/.." && pwd)
+JAR=${APP_JAR:-$(ls "$APP_HOME"/target/*.jar 2>/dev/null | head -n 1)}
+MODE=${1:-default}
+RUNS=${2:-5}
+[ $# -gt 0 ] && shift
+[ $# -gt 0 ] && shift
+PORT=${PORT:-8080}
+TIMEOUT=${TIMEOUT:-120}
+URL=http://localhost:$PORT/api/v1/about
+
+now_ms() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+start_app() {
+    case "$MODE" in
+        default)
+            # shellcheck disable=SC2086
+            java $JAVA_OPTS -Dspring.profiles.active="${SPRING_PROFILES_ACTIVE:-prod}" \
+                -jar "$JAR" --server.port="$PORT" "$@" >/dev/null 2>&1 &
+            ;;
+        fast)
+            "$APP_HOME/scripts/fast-start.sh" --server.port="$PORT" "$@" >/dev/null 2>&1 &
+            ;;
+        *)
+            echo "Unknown mode '$MODE', expected 'default' or 'fast'" >&2
+            exit 1
+            ;;
+    esac
+    PID=$!
+}
+
+TOTAL=0
+i=1
+while [ "$i" -le "$RUNS" ]; do
+    START=$(now_ms)
+    start_app "$@"
+    ELAPSED=""
+    while [ $(($(now_ms) - START)) -lt $((TIMEOUT * 1000)) ]; do
+        if curl -sf -o /dev/null "$URL"; then
+            ELAPSED=$(($(now_ms) - START))
+            break
+        fi
+        if ! kill -0 "$PID" 2>/dev/null; then
+            break
+        fi
+        sleep 0.05
+    done
+    kill "$PID" 2>/dev/null || true
+    wait "$PID" 2>/dev/null || true
+
+    if [ -z "$ELAPSED" ]; then
+        echo "run $i: application did not answer $URL" >&2
+        exit 1
+    fi
+    echo "run $i: ${ELAPSED} ms"
+    TOTAL=$((TOTAL + ELAPSED))
+    i=$((i + 1))
+done
+
+echo "$MODE: average ${TOTAL} / $RUNS = $((TOTAL / RUNS)) ms to first response"
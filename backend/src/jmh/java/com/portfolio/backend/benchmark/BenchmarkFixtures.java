@@ -0,0 +1,211 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.dto.*;
+import com.portfolio.backend.entity.Project;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic fixtures for the benchmarks
+ * Field lengths follow the sample data loaded by DataLoader; a fixed seed
+ * keeps runs comparable.
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+
+    private static final String[] WORDS = {
+            "platform", "service", "scalable", "React", "Spring", "Boot", "cloud", "API", "dashboard",
+            "microservices", "payment", "integration", "inventory", "management", "real-time", "analytics",
+            "secure", "responsive", "application", "deployment", "pipeline", "database", "performance" };
+
+    private static final String[] TECHNOLOGIES = {
+            "Java", "Spring Boot", "React", "MySQL", "Docker", "Kubernetes", "Redis", "TypeScript",
+            "Node.js", "PostgreSQL", "AWS", "Kafka", "GraphQL", "Tailwind CSS" };
+
+    private static final String[] CATEGORIES = { "Web Application", "Mobile", "Backend", "Frontend", "DevOps" };
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Project> projects(int count) {
+        Random random = new Random(SEED);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            List<String> technologies = new ArrayList<>();
+            for (int t = 0; t < 5; t++) {
+                technologies.add(TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)]);
+            }
+            projects.add(Project.builder()
+                    .id((long) i)
+                    .title(sentence(random, 3))
+                    .description(sentence(random, 30))
+                    .imageUrl("/assets/images/project-" + i + ".jpg")
+                    .demoUrl("https://demo.example.com/project-" + i)
+                    .githubUrl("https://github.com/example/project-" + i)
+                    .technologies(technologies)
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .featured(random.nextInt(4) == 0)
+                    .displayOrder(i)
+                    .createdAt(createdAt.plusMinutes(i))
+                    .updatedAt(createdAt.plusMinutes(i))
+                    .build());
+        }
+        return projects;
+    }
+
+    public static List<ProjectDTO> projectDTOs(int count) {
+        return projects(count).stream()
+                .map(project -> ProjectDTO.builder()
+                        .id(project.getId())
+                        .title(project.getTitle())
+                        .description(project.getDescription())
+                        .imageUrl(project.getImageUrl())
+                        .demoUrl(project.getDemoUrl())
+                        .githubUrl(project.getGithubUrl())
+                        .technologies(project.getTechnologies())
+                        .category(project.getCategory())
+                        .featured(project.getFeatured())
+                        .displayOrder(project.getDisplayOrder())
+                        .createdAt(project.getCreatedAt())
+                        .updatedAt(project.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    public static AboutDTO about() {
+        Random random = new Random(SEED);
+        return AboutDTO.builder()
+                .id(1L)
+                .name("Jane Doe")
+                .title("Full-Stack Developer")
+                .description(sentence(random, 40))
+                .email("jane.doe@example.com")
+                .phone("+33 6 00 00 00 00")
+                .location("Paris, France")
+                .linkedinUrl("https://linkedin.com/in/janedoe")
+                .githubUrl("https://github.com/janedoe")
+                .twitterUrl("https://twitter.com/janedoe")
+                .resumeUrl("/assets/resume.pdf")
+                .profileImageUrl("/assets/images/profile.jpg")
+                .build();
+    }
+
+    public static List<SkillDTO> skills(int count) {
+        Random random = new Random(SEED);
+        List<SkillDTO> skills = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            skills.add(SkillDTO.builder()
+                    .id((long) i)
+                    .name(TECHNOLOGIES[random.nextInt(TECHNOLOGIES.length)])
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .proficiencyLevel(50 + random.nextInt(50))
+                    .iconUrl("skill-" + i + ".svg")
+                    .displayOrder(i)
+                    .build());
+        }
+        return skills;
+    }
+
+    public static List<ExperienceDTO> experiences(int count) {
+        Random random = new Random(SEED);
+        List<ExperienceDTO> experiences = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            experiences.add(ExperienceDTO.builder()
+                    .id((long) i)
+                    .company(sentence(random, 2) + " Inc.")
+                    .position("Full-Stack Developer")
+                    .location("Remote")
+                    .startDate("Jan 2023")
+                    .endDate(i == 1 ? null : "Dec 2023")
+                    .description(sentence(random, 40))
+                    .current(i == 1)
+                    .displayOrder(i)
+                    .build());
+        }
+        return experiences;
+    }
+
+    public static List<EducationDTO> educations(int count) {
+        Random random = new Random(SEED);
+        List<EducationDTO> educations = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            educations.add(EducationDTO.builder()
+                    .id((long) i)
+                    .institution("University of " + sentence(random, 1))
+                    .degree("Master's Degree")
+                    .fieldOfStudy("Computer Science")
+                    .location("Tunisia")
+                    .startDate("2019")
+                    .endDate("2021")
+                    .description(sentence(random, 20))
+                    .grade("Distinction")
+                    .displayOrder(i)
+                    .build());
+        }
+        return educations;
+    }
+
+    public static List<LanguageDTO> languages(int count) {
+        List<LanguageDTO> languages = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            languages.add(LanguageDTO.builder()
+                    .id((long) i)
+                    .name("Language " + i)
+                    .proficiency("Fluent")
+                    .proficiencyPercentage(90)
+                    .displayOrder(i)
+                    .build());
+        }
+        return languages;
+    }
+
+    public static List<InterestDTO> interests(int count) {
+        Random random = new Random(SEED);
+        List<InterestDTO> interests = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            interests.add(InterestDTO.builder()
+                    .id((long) i)
+                    .name(sentence(random, 2))
+                    .description(sentence(random, 15))
+                    .icon("code")
+                    .displayOrder(i)
+                    .build());
+        }
+        return interests;
+    }
+
+    /**
+     * English translations of the title and description of every project
+     *
+     * @return Translated values by entity id, then by field name
+     */
+    public static Map<Long, Map<String, String>> projectTranslations(int count) {
+        Random random = new Random(SEED + 1);
+        Map<Long, Map<String, String>> translations = new HashMap<>();
+        for (long id = 1; id <= count; id++) {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("title", sentence(random, 3) + " (EN)");
+            fields.put("description", sentence(random, 30) + " (English version)");
+            translations.put(id, fields);
+        }
+        return translations;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT generation and verification, as done on login and on every admin request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private UserDetails userDetails;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secret", "benchmark-secret-key-with-at-least-256-bits-of-entropy");
+        ReflectionTestUtils.setField(jwtUtils, "expiration", 86400000L);
+        userDetails = User.withUsername("admin").password("unused").authorities("ROLE_ADMIN").build();
+        token = jwtUtils.generateToken(userDetails);
+        claims = jwtUtils.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateToken(userDetails);
+    }
+
+    /**
+     * Signature check and claims parsing, done once per request by JwtAuthFilter
+     */
+    @Benchmark
+    public Claims verify() {
+        return jwtUtils.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateParsedClaims() {
+        return jwtUtils.isTokenValid(claims, userDetails);
+    }
+
+    /**
+     * String-based validation, which parses and verifies the token twice
+     */
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.isTokenValid(token, userDetails);
+    }
+}
@@ -0,0 +1,26 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.util.TranslationHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accept-Language parsing, done on every public request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LanguageBenchmark {
+
+    @Param({ "fr", "en-US", "en-US,en;q=0.9,fr;q=0.8", "de-DE,de;q=0.9" })
+    private String acceptLanguage;
+
+    @Benchmark
+    public String extractLanguage() {
+        return TranslationHelper.extractLanguage(acceptLanguage);
+    }
+}
@@ -0,0 +1,117 @@
+package com.portfolio.backend.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.portfolio.backend.monitoring.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of hot-path log statements for the request threads, written to a file
+ * sync is the previous setup; async and async-sampled match logback-spring.xml.
+ * The async appender never blocks, so once its queue is full the INFO events
+ * are dropped: its throughput is what request threads see, not what reaches
+ * the file.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    @Param({ "sync", "async", "async-sampled" })
+    private String appender;
+
+    private LoggerContext context;
+    private Logger serviceLogger;
+    private Logger errorLogger;
+    private Path file;
+    private int size = 20;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("logging-benchmark-", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> target = fileAppender;
+        if (!appender.equals("sync")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender);
+            async.start();
+            target = async;
+        }
+        if (appender.equals("async-sampled")) {
+            SamplingTurboFilter sampling = new SamplingTurboFilter();
+            sampling.setContext(context);
+            sampling.addLogger("com.portfolio.backend.exception");
+            sampling.setMaxPerSecond(5);
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(target);
+        serviceLogger = context.getLogger("com.portfolio.backend.service.PortfolioService");
+        errorLogger = context.getLogger("com.portfolio.backend.exception.GlobalExceptionHandler");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * The INFO line every public read used to write
+     */
+    @Benchmark
+    public void info() {
+        serviceLogger.info("Found {} projects", size);
+    }
+
+    /**
+     * The same line at DEBUG behind a level check, as it is now
+     */
+    @Benchmark
+    public void guardedDebug() {
+        if (serviceLogger.isDebugEnabled()) {
+            serviceLogger.debug("Found {} projects", size);
+        }
+    }
+
+    /**
+     * A line logged once per failing request, e.g. a scan of unknown ids
+     */
+    @Benchmark
+    public void perRequestError() {
+        errorLogger.error("Resource not found on {}: {}", "/api/v1/projects/42", "Project not found with id: '42'");
+    }
+}
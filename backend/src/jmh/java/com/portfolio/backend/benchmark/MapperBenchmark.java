@@ -0,0 +1,37 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of a large project list
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({ "10000" })
+    private int size;
+
+    private final ProjectMapper projectMapper = new ProjectMapper();
+    private List<Project> projects;
+
+    @Setup
+    public void setUp() {
+        projects = BenchmarkFixtures.projects(size);
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectToDTOList() {
+        return projectMapper.toDTOList(projects);
+    }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of each public API response
+ * The ObjectMapper is built with the same defaults Spring Boot applies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({ "about", "projects", "skills", "experiences", "education", "languages", "interests" })
+    private String section;
+
+    /**
+     * Number of entries in list sections (ignored for about)
+     */
+    @Param({ "20", "1000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Object payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        payload = switch (section) {
+            case "about" -> BenchmarkFixtures.about();
+            case "projects" -> BenchmarkFixtures.projectDTOs(size);
+            case "skills" -> BenchmarkFixtures.skills(size);
+            case "experiences" -> BenchmarkFixtures.experiences(size);
+            case "education" -> BenchmarkFixtures.educations(size);
+            case "languages" -> BenchmarkFixtures.languages(size);
+            case "interests" -> BenchmarkFixtures.interests(size);
+            default -> throw new IllegalArgumentException("Unknown section: " + section);
+        };
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+}
@@ -0,0 +1,78 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.service.TranslationService;
+import com.portfolio.backend.util.TranslationHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflective translation of DTO lists
+ * The translation store is in memory, so only the TranslationHelper cost is
+ * measured, not the database lookups behind TranslationService.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranslationBenchmark {
+
+    @Param({ "100", "1000" })
+    private int size;
+
+    private Map<Long, Map<String, String>> translations;
+    private TranslationHelper translationHelper;
+    private List<ProjectDTO> projects;
+
+    @Setup
+    public void setUp() {
+        translations = BenchmarkFixtures.projectTranslations(size);
+        translationHelper = new TranslationHelper(new InMemoryTranslationService(translations));
+        projects = BenchmarkFixtures.projectDTOs(size);
+    }
+
+    /**
+     * One TranslationService lookup per translatable field, as PortfolioController does
+     */
+    @Benchmark
+    public List<ProjectDTO> perFieldLookup() {
+        translationHelper.applyTranslationsToList(projects, "Project", "en");
+        return projects;
+    }
+
+    /**
+     * Translations loaded up front, as the reactive API does
+     */
+    @Benchmark
+    public List<ProjectDTO> preloadedMap() {
+        for (ProjectDTO project : projects) {
+            TranslationHelper.applyTranslations(project, translations.get(project.getId()));
+        }
+        return projects;
+    }
+
+    private static final class InMemoryTranslationService extends TranslationService {
+
+        private final Map<Long, Map<String, String>> translations;
+
+        InMemoryTranslationService(Map<Long, Map<String, String>> translations) {
+            super(null, new SimpleMeterRegistry(), event -> {
+            });
+            this.translations = translations;
+        }
+
+        @Override
+        public String applyTranslation(String originalValue, String entityType, Long entityId, String fieldName,
+                String language) {
+            Map<String, String> fields = translations.get(entityId);
+            String translated = fields != null ? fields.get(fieldName) : null;
+            return translated != null ? translated : originalValue;
+        }
+    }
+}
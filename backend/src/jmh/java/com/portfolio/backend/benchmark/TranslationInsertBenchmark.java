@@ -0,0 +1,159 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.entity.Translation;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Inserting translations through Hibernate, one flush every batch of entities
+ * identity is the former mapping, whose generated keys must be read back row
+ * by row; pooled is the Translation entity as mapped now, with the batching
+ * settings of application.yml. Runs on in-memory H2 by default; pass a
+ * MySQL url with rewriteBatchedStatements=true through -p url=... to measure the
+ * network round trips saved, against a scratch database as the tables are
+ * created and dropped.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranslationInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({ "identity", "pooled" })
+    private String ids;
+
+    @Param({ "100000" })
+    private int rows;
+
+    @Param({ "jdbc:h2:mem:insert-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1" })
+    private String url;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private IntFunction<Object> translations;
+
+    @Setup(Level.Trial)
+    public void setUpDataSource() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        // The table generator reads and updates id_generators on a connection of its own
+        dataSource.setMaximumPoolSize(2);
+    }
+
+    /**
+     * Fresh tables for every iteration, so each one inserts into an empty table
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Class<?> entity = ids.equals("identity") ? IdentityTranslation.class : Translation.class;
+        translations = ids.equals("identity") ? IdentityTranslation::new : TranslationInsertBenchmark::translation;
+        sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .build())
+                .addAnnotatedClass(entity)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDataSource() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int insert() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(translations.apply(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        }
+        return rows;
+    }
+
+    private static Translation translation(int i) {
+        return Translation.builder()
+                .entityType("Project")
+                .entityId((long) i / 2)
+                .fieldName(i % 2 == 0 ? "title" : "description")
+                .language("en")
+                .value("[en] Synthetic project " + i)
+                .build();
+    }
+
+    /**
+     * The translations table as it was mapped before the move to table generators
+     */
+    @Entity
+    @Table(name = "translations_identity", uniqueConstraints = @UniqueConstraint(columnNames = { "entity_type",
+            "entity_id", "field_name", "language" }))
+    public static class IdentityTranslation {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(name = "entity_type", nullable = false, length = 50)
+        private String entityType;
+
+        @Column(name = "entity_id", nullable = false)
+        private Long entityId;
+
+        @Column(name = "field_name", nullable = false, length = 50)
+        private String fieldName;
+
+        @Column(name = "language", nullable = false, length = 5)
+        private String language;
+
+        @Column(name = "value", columnDefinition = "TEXT")
+        private String value;
+
+        @CreationTimestamp
+        @Column(updatable = false)
+        private LocalDateTime createdAt;
+
+        @UpdateTimestamp
+        private LocalDateTime updatedAt;
+
+        protected IdentityTranslation() {
+        }
+
+        IdentityTranslation(int i) {
+            this.entityType = "Project";
+            this.entityId = (long) i / 2;
+            this.fieldName = i % 2 == 0 ? "title" : "description";
+            this.language = "en";
+            this.value = "[en] Synthetic project " + i;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.portfolio.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route latency and error counts
+ * Latencies are measured from the intended arrival time, so queueing caused by
+ * a slow server shows up in the percentiles instead of being hidden.
+ */
+@Slf4j
+public class LatencyRecorder {
+
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+    /**
+     * @param statements SQL statements reported by the backend, or -1 if unknown
+     */
+    public void record(String route, long latencyNanos, boolean success, int statements) {
+        routes.computeIfAbsent(route, r -> new RouteStats()).add(latencyNanos, success, statements);
+    }
+
+    /**
+     * An arrival that was not sent because too many requests were outstanding
+     */
+    public void dropped(String route) {
+        routes.computeIfAbsent(route, r -> new RouteStats()).drop();
+    }
+
+    public Map<String, Object> report(LoadTestProperties properties, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Object> summary = new TreeMap<>();
+        routes.forEach((route, stats) -> summary.put(route, stats.summary(seconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", properties.getRate());
+        report.put("poisson", properties.isPoisson());
+        report.put("durationSeconds", seconds);
+        report.put("dataset", properties.getDataset());
+        report.put("mix", properties.getMix());
+        report.put("routes", summary);
+        return report;
+    }
+
+    public void print(Map<String, Object> report) {
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> summary = (Map<String, Map<String, Object>>) report.get("routes");
+        StringBuilder table = new StringBuilder(String.format("%n%-40s %8s %8s %8s %8s %9s %9s %9s %8s %8s%n",
+                "route", "count", "req/s", "errors", "dropped", "p50 ms", "p99 ms", "p999 ms", "sql avg", "sql max"));
+        summary.forEach((route, stats) -> table.append(String.format(
+                "%-40s %8d %8.1f %8d %8d %9.1f %9.1f %9.1f %8.1f %8d%n",
+                route, stats.get("count"), stats.get("throughput"), stats.get("errors"), stats.get("dropped"),
+                stats.get("p50Ms"), stats.get("p99Ms"), stats.get("p999Ms"), stats.get("sqlStatementsAvg"),
+                stats.get("sqlStatementsMax"))));
+        log.info(table.toString());
+    }
+
+    /**
+     * Routes whose requests executed more SQL statements than the budget, with their maximum
+     */
+    public Map<String, Integer> overStatementBudget(int maxStatements) {
+        Map<String, Integer> over = new TreeMap<>();
+        routes.forEach((route, stats) -> {
+            int max = stats.maxStatements();
+            if (max > maxStatements) {
+                over.put(route, max);
+            }
+        });
+        return over;
+    }
+
+    public void write(Map<String, Object> report, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        log.info("Report written to {}", file.toAbsolutePath());
+    }
+
+    private static final class RouteStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long dropped;
+        private long statementSamples;
+        private long statementTotal;
+        private int statementMax;
+
+        synchronized void add(long latencyNanos, boolean success, int statements) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+            if (statements >= 0) {
+                statementSamples++;
+                statementTotal += statements;
+                statementMax = Math.max(statementMax, statements);
+            }
+        }
+
+        synchronized int maxStatements() {
+            return statementMax;
+        }
+
+        synchronized void drop() {
+            dropped++;
+        }
+
+        synchronized Map<String, Object> summary(double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            long attempts = count + dropped;
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", (long) count);
+            summary.put("throughput", count / seconds);
+            summary.put("errors", errors);
+            summary.put("dropped", dropped);
+            summary.put("errorRate", attempts == 0 ? 0.0 : (double) (errors + dropped) / attempts);
+            summary.put("p50Ms", percentile(sorted, 0.50));
+            summary.put("p99Ms", percentile(sorted, 0.99));
+            summary.put("p999Ms", percentile(sorted, 0.999));
+            summary.put("maxMs", sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6);
+            summary.put("sqlStatementsAvg", statementSamples == 0 ? 0.0 : (double) statementTotal / statementSamples);
+            summary.put("sqlStatementsMax", statementMax);
+            return summary;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
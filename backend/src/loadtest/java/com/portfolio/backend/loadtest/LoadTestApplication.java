@@ -0,0 +1,112 @@
+package com.portfolio.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.PortfolioBackendApplication;
+import com.portfolio.backend.config.IdGenerators;
+import com.portfolio.backend.config.SeedingStatus;
+import com.portfolio.backend.config.SyntheticDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test, entirely offline
+ * Starts the backend on an in-memory H2 database (profile loadtest), seeds a
+ * synthetic dataset, then drives the mixed workload over HTTP and reports
+ * latency percentiles and error rates per route.
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    private static final Duration SEEDING_TIMEOUT = Duration.ofMinutes(5);
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PortfolioBackendApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        Map<String, Integer> overBudget = Map.of();
+        try {
+            Environment environment = context.getEnvironment();
+            LoadTestProperties properties = Binder.get(environment)
+                    .bind("loadtest", LoadTestProperties.class)
+                    .orElseGet(LoadTestProperties::new);
+
+            awaitSeeding(context.getBean(SeedingStatus.class));
+            new SyntheticDataGenerator(context.getBean(JdbcTemplate.class), context.getBean(TransactionTemplate.class),
+                    context.getBean(IdGenerators.class)).generate(properties.getDataset());
+
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            String baseUrl = "http://localhost:" + environment.getProperty("local.server.port");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            Workload workload = new Workload(baseUrl, login(httpClient, baseUrl, objectMapper), properties,
+                    objectMapper);
+            OpenModelDriver driver = new OpenModelDriver(httpClient, workload, properties);
+            Random random = new Random(properties.getSeed());
+
+            log.info("Warming up for {} at {} req/s", properties.getWarmup(), properties.getRate());
+            driver.run(properties.getWarmup(), random, null);
+
+            log.info("Measuring for {} at {} req/s", properties.getDuration(), properties.getRate());
+            LatencyRecorder recorder = new LatencyRecorder();
+            long elapsed = driver.run(properties.getDuration(), random, recorder);
+
+            Map<String, Object> report = recorder.report(properties, elapsed);
+            recorder.print(report);
+            recorder.write(report, Path.of(properties.getReportFile()));
+
+            if (properties.getMaxStatementsPerRequest() > 0) {
+                overBudget = recorder.overStatementBudget(properties.getMaxStatementsPerRequest());
+            }
+        } finally {
+            context.close();
+        }
+
+        if (!overBudget.isEmpty()) {
+            log.error("SQL statement budget per request exceeded (max statements by route): {}", overBudget);
+            System.exit(1);
+        }
+    }
+
+    private static void awaitSeeding(SeedingStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + SEEDING_TIMEOUT.toNanos();
+        while (!status.isCompleted()) {
+            if (status.getFailure() != null) {
+                throw new IllegalStateException("Startup seeding failed", status.getFailure());
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Startup seeding did not complete within " + SEEDING_TIMEOUT);
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private static String login(HttpClient httpClient, String baseUrl, ObjectMapper objectMapper) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(Map.of("username", "admin", "password", "admin123"))))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Admin login failed with status " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+}
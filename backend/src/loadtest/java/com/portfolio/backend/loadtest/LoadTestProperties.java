@@ -0,0 +1,50 @@
+package com.portfolio.backend.loadtest;
+
+import com.portfolio.backend.config.SyntheticDataGenerator;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings bound from the loadtest.* properties
+ */
+@Data
+public class LoadTestProperties {
+
+    /**
+     * Arrivals per second, independent of how fast the server answers
+     */
+    private double rate = 50;
+
+    /**
+     * Exponential inter-arrival times (Poisson process) instead of a fixed interval
+     */
+    private boolean poisson = true;
+
+    private Duration warmup = Duration.ofSeconds(15);
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * Arrivals beyond this many outstanding requests are recorded as dropped
+     */
+    private int maxInFlight = 2000;
+
+    /**
+     * Fail the run when a request executes more SQL statements than this; 0 disables the check
+     */
+    private int maxStatementsPerRequest;
+
+    private long seed = 42;
+    private String reportFile = "target/loadtest-report.json";
+    private int contactBurstSize = 20;
+    private SyntheticDataGenerator.Volumes dataset = new SyntheticDataGenerator.Volumes();
+    private Mix mix = new Mix();
+
+    @Data
+    public static class Mix {
+        private int publicRead = 85;
+        private int adminCrud = 4;
+        private int contactBurst = 1;
+        private int login = 2;
+    }
+}
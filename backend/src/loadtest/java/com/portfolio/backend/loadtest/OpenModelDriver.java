@@ -0,0 +1,104 @@
+package com.portfolio.backend.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model load generator
+ * Arrivals follow a schedule fixed in advance and do not wait for earlier
+ * responses, so a slow server builds up a queue exactly as it would under real
+ * traffic. Each request runs on its own virtual thread.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OpenModelDriver {
+
+    private static final Pattern STATEMENTS = Pattern.compile("(\\d+) statements");
+
+    private final HttpClient httpClient;
+    private final Workload workload;
+    private final LoadTestProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Runs the workload for the given duration; results go to the recorder when one is given
+     *
+     * @return the elapsed time in nanoseconds, including draining the last requests
+     */
+    public long run(Duration duration, Random random, LatencyRecorder recorder) {
+        double meanIntervalNanos = 1e9 / properties.getRate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long next = start;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intended = next;
+                for (Workload.Call call : workload.next(random)) {
+                    if (inFlight.get() >= properties.getMaxInFlight()) {
+                        if (recorder != null) {
+                            recorder.dropped(call.route());
+                        }
+                        continue;
+                    }
+                    inFlight.incrementAndGet();
+                    executor.execute(() -> execute(call, intended, recorder));
+                }
+                next += properties.isPoisson()
+                        ? (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos)
+                        : (long) meanIntervalNanos;
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void execute(Workload.Call call, long intended, LatencyRecorder recorder) {
+        boolean success = false;
+        int statements = -1;
+        try {
+            HttpResponse<String> response = httpClient.send(call.request(), HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() == call.expectedStatus();
+            statements = response.headers().firstValue("Server-Timing")
+                    .map(OpenModelDriver::sqlStatements)
+                    .orElse(-1);
+            if (success && call.onSuccess() != null) {
+                call.onSuccess().accept(response);
+            } else if (!success) {
+                log.debug("{} returned {}", call.route(), response.statusCode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("{} failed: {}", call.route(), e.toString());
+        } finally {
+            inFlight.decrementAndGet();
+            if (recorder != null) {
+                recorder.record(call.route(), System.nanoTime() - intended, success, statements);
+            }
+        }
+    }
+
+    /**
+     * Statement count from the backend's Server-Timing header, or -1 if absent
+     */
+    private static int sqlStatements(String serverTiming) {
+        Matcher matcher = STATEMENTS.matcher(serverTiming);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
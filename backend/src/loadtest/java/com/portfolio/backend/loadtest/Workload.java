@@ -0,0 +1,178 @@
+package com.portfolio.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * The mixed workload: public reads in fr and en, admin project CRUD, bursts of
+ * contact form submissions and logins, picked by weight on each arrival
+ */
+public class Workload {
+
+    private static final String[] SECTIONS = { "about", "projects", "skills", "experiences", "education",
+            "languages", "interests" };
+    private static final String[] LANGUAGES = { "fr", "en-US,en;q=0.9" };
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final String adminToken;
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+    private final int[] cumulativeWeights;
+    private final ConcurrentLinkedDeque<Long> createdProjects = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * One HTTP exchange and how to judge it
+     */
+    public record Call(String route, HttpRequest request, int expectedStatus, Consumer<HttpResponse<String>> onSuccess) {
+    }
+
+    public Workload(String baseUrl, String adminToken, LoadTestProperties properties, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.adminToken = adminToken;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        LoadTestProperties.Mix mix = properties.getMix();
+        int[] weights = { mix.getPublicRead(), mix.getAdminCrud(), mix.getContactBurst(), mix.getLogin() };
+        cumulativeWeights = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += Math.max(0, weights[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("loadtest.mix must have at least one positive weight");
+        }
+    }
+
+    /**
+     * The calls for the next arrival; a contact burst yields several calls sent together
+     */
+    public List<Call> next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        if (pick < cumulativeWeights[0]) {
+            return List.of(publicRead(random));
+        }
+        if (pick < cumulativeWeights[1]) {
+            return List.of(adminCrud(random));
+        }
+        if (pick < cumulativeWeights[2]) {
+            return contactBurst();
+        }
+        return List.of(login());
+    }
+
+    private Call publicRead(Random random) {
+        String section = SECTIONS[random.nextInt(SECTIONS.length)];
+        String language = LANGUAGES[random.nextInt(LANGUAGES.length)];
+        HttpRequest request = request("/api/v1/" + section)
+                .header("Accept-Language", language)
+                .GET()
+                .build();
+        return new Call("GET /api/v1/" + section + " [" + language.substring(0, 2) + "]", request, 200, null);
+    }
+
+    /**
+     * Creates, updates or deletes a project, keeping a pool of projects created by the test itself
+     */
+    private Call adminCrud(Random random) {
+        int step = random.nextInt(3);
+        Long id = step == 0 || createdProjects.size() < 10 ? null
+                : step == 1 ? createdProjects.peekLast() : createdProjects.pollFirst();
+        if (id == null) {
+            HttpRequest request = adminRequest("/api/v1/admin/projects")
+                    .POST(json(project("Projet de charge " + sequence.incrementAndGet())))
+                    .build();
+            return new Call("POST /api/v1/admin/projects", request, 201,
+                    response -> createdProjects.addLast(readId(response)));
+        }
+        // Concurrent arrivals share the latest project, which no real admin does: "*" keeps
+        // the test measuring the writes rather than their version conflicts
+        if (step == 1) {
+            HttpRequest request = adminRequest("/api/v1/admin/projects/" + id)
+                    .header("If-Match", "*")
+                    .PUT(json(project("Projet de charge modifié " + id)))
+                    .build();
+            return new Call("PUT /api/v1/admin/projects/{id}", request, 200, null);
+        }
+        HttpRequest request = adminRequest("/api/v1/admin/projects/" + id)
+                .header("If-Match", "*")
+                .DELETE()
+                .build();
+        return new Call("DELETE /api/v1/admin/projects/{id}", request, 204, null);
+    }
+
+    private List<Call> contactBurst() {
+        List<Call> calls = new ArrayList<>(properties.getContactBurstSize());
+        for (int i = 0; i < properties.getContactBurstSize(); i++) {
+            long n = sequence.incrementAndGet();
+            HttpRequest request = request("/api/v1/contact")
+                    .header("Content-Type", "application/json")
+                    .POST(json(Map.of(
+                            "name", "Visiteur " + n,
+                            "email", "visitor" + n + "@example.com",
+                            "subject", "Demande " + n,
+                            "message", "Message envoyé par le test de charge numéro " + n)))
+                    .build();
+            calls.add(new Call("POST /api/v1/contact", request, 201, null));
+        }
+        return calls;
+    }
+
+    private Call login() {
+        HttpRequest request = request("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("username", "admin", "password", "admin123")))
+                .build();
+        return new Call("POST /api/auth/login", request, 200, null);
+    }
+
+    private Map<String, Object> project(String title) {
+        return Map.of(
+                "title", title,
+                "description", "Projet créé par le test de charge pour exercer l'API d'administration",
+                "technologies", List.of("Java", "Spring Boot"),
+                "category", "Backend",
+                "featured", false);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private HttpRequest.Builder adminRequest(String path) {
+        return request(path)
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    private long readId(HttpResponse<String> response) {
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            return body.get("id").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read created project id", e);
+        }
+    }
+}
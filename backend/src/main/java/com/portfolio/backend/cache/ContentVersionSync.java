@@ -0,0 +1,175 @@
+package com.portfolio.backend.cache;
+
+import com.portfolio.backend.entity.ContentVersion;
+import com.portfolio.backend.repository.ContentVersionRepository;
+import com.portfolio.backend.repository.ContentVersionRepository.SectionVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Keeps the public caches of several instances coherent through the content_version table
+ * Every PublicContentChangedEvent increments the changed sections' versions in the
+ * publisher's transaction, so the new version becomes visible exactly when the
+ * change commits. Each instance polls the table, a single-row-per-section read,
+ * and invalidates its cache for every section whose version moved; the local
+ * Hibernate second-level cache is evicted first. Changes made on another
+ * instance are therefore served for at most the poll interval plus one query.
+ * Versions written by this instance are remembered once committed and skipped
+ * by the poll: its caches were already updated by the change itself.
+ * The measured delay relies on the instances' clocks being in sync.
+ */
+@Slf4j
+@Component
+public class ContentVersionSync {
+
+    private final ContentVersionRepository contentVersionRepository;
+    private final PublicContentCache publicContentCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Map<String, Long> seen = new HashMap<>();
+    /**
+     * Versions committed by this instance and not yet passed by the poll, guarded by seen
+     */
+    private final Map<String, NavigableSet<Long>> written = new HashMap<>();
+    private final Timer staleness;
+    private final Counter invalidations;
+
+    public ContentVersionSync(ContentVersionRepository contentVersionRepository,
+            PublicContentCache publicContentCache, EntityManagerFactory entityManagerFactory,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.public-cache.sync.enabled:true}") boolean enabled) {
+        this.contentVersionRepository = contentVersionRepository;
+        this.publicContentCache = publicContentCache;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.staleness = Timer.builder("public.cache.sync.staleness")
+                .description("Time from a committed change to its invalidation on this instance")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("public.cache.sync.invalidations")
+                .description("Sections invalidated after a version change seen in the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create the missing version rows, so that increments never need an insert
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createVersions() {
+        if (!enabled) {
+            return;
+        }
+        for (PublicSection section : PublicSection.values()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!contentVersionRepository.existsById(section.name())) {
+                        contentVersionRepository.save(new ContentVersion(section.name(), 0, LocalDateTime.now()));
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Version of {} created by another instance", section);
+            }
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onContentChanged(PublicContentChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<String> sections = event.section() != null
+                ? List.of(event.section().name())
+                : Arrays.stream(PublicSection.values()).map(Enum::name).toList();
+        contentVersionRepository.increment(sections, LocalDateTime.now());
+        // The row locks taken by the increment are held until commit, so these are the versions written here
+        List<SectionVersion> versions = contentVersionRepository.findVersions(sections);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                synchronized (seen) {
+                    for (SectionVersion version : versions) {
+                        written.computeIfAbsent(version.getSection(), section -> new TreeSet<>())
+                                .add(version.getVersion());
+                    }
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.public-cache.sync.poll-interval:2000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        List<ContentVersion> versions;
+        try {
+            versions = contentVersionRepository.findAll();
+        } catch (DataAccessException e) {
+            log.debug("Could not poll content versions: {}", e.getMessage());
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (seen) {
+            List<ContentVersion> changed = new ArrayList<>();
+            for (ContentVersion version : versions) {
+                Long previous = seen.put(version.getSection(), version.getVersion());
+                if (previous != null && previous != version.getVersion()
+                        && !writtenHere(version.getSection(), previous, version.getVersion())) {
+                    changed.add(version);
+                }
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+            // Reference data is small: dropping all of it is simpler than mapping sections to regions
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+            for (ContentVersion version : changed) {
+                PublicSection section = PublicSection.valueOf(version.getSection());
+                publicContentCache.invalidate(section);
+                invalidations.increment();
+                if (version.getUpdatedAt() != null && version.getUpdatedAt().isBefore(now)) {
+                    staleness.record(Duration.between(version.getUpdatedAt(), now));
+                }
+                log.debug("{} changed to version {}, cache invalidated", section, version.getVersion());
+            }
+        }
+    }
+
+    /**
+     * Whether every version after previous up to current was written by this instance
+     * A version committed here but not yet recorded counts as foreign: the
+     * section is then invalidated once more, which is only wasted work.
+     */
+    private boolean writtenHere(String section, long previous, long current) {
+        NavigableSet<Long> own = written.get(section);
+        if (own == null || current < previous) {
+            return false;
+        }
+        boolean all = own.subSet(previous, false, current, true).size() == current - previous;
+        own.headSet(current, true).clear();
+        return all;
+    }
+}
@@ -0,0 +1,139 @@
+package com.portfolio.backend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Translated public API responses by section and language
+ * A miss is loaded through SingleFlight, so a burst of visitors on a cold cache
+ * runs the section's queries and translation lookups once. Admin changes bump
+ * the section's generation after their transaction commits: callers then use
+ * new keys, and a load started before the change is never cached. The TTL
+ * bounds staleness for changes made outside this instance.
+ */
+@Slf4j
+@Component
+public class PublicContentCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<PublicSection, AtomicLong> generations = new EnumMap<>(PublicSection.class);
+    private final Map<PublicSection, Counters> counters = new EnumMap<>(PublicSection.class);
+    private final SingleFlight<Key, Object> singleFlight = new SingleFlight<>();
+
+    public PublicContentCache(MeterRegistry meterRegistry,
+            @Value("${app.public-cache.enabled:true}") boolean enabled,
+            @Value("${app.public-cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        for (PublicSection section : PublicSection.values()) {
+            generations.put(section, new AtomicLong());
+            counters.put(section, new Counters(meterRegistry, section));
+        }
+        Gauge.builder("public.cache.entries", entries, Map::size)
+                .description("Cached public responses")
+                .register(meterRegistry);
+        Gauge.builder("public.cache.loads.in.flight", singleFlight, SingleFlight::inFlight)
+                .description("Public responses being loaded")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached response of a section in a language, loaded on a miss
+     * The returned object is shared between requests and must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(PublicSection section, String language, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Counters sectionCounters = counters.get(section);
+        Key key = new Key(section, language, generations.get(section).get());
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+            sectionCounters.hits.increment();
+            return (T) entry.value();
+        }
+
+        SingleFlight.Result<Object> result = singleFlight.execute(key, () -> load(key, loader));
+        (result.coalesced() ? sectionCounters.coalesced : sectionCounters.misses).increment();
+        return (T) result.value();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(PublicContentChangedEvent event) {
+        if (event.section() == null) {
+            invalidateAll();
+        } else {
+            invalidate(event.section());
+        }
+    }
+
+    /**
+     * Drop the cached responses of a section on this instance only
+     */
+    public void invalidate(PublicSection section) {
+        generations.get(section).incrementAndGet();
+        entries.keySet().removeIf(key -> key.section() == section);
+        log.debug("Public cache invalidated for {}", section);
+    }
+
+    public void invalidateAll() {
+        for (PublicSection section : PublicSection.values()) {
+            invalidate(section);
+        }
+    }
+
+    private Object load(Key key, Supplier<?> loader) {
+        Object value = loader.get();
+        AtomicLong generation = generations.get(key.section());
+        if (generation.get() == key.generation()) {
+            entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+            // The section may have changed while the entry was stored
+            if (generation.get() != key.generation()) {
+                entries.remove(key);
+            }
+        }
+        return value;
+    }
+
+    private record Key(PublicSection section, String language, long generation) {
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private static final class Counters {
+
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter coalesced;
+
+        Counters(MeterRegistry meterRegistry, PublicSection section) {
+            hits = counter(meterRegistry, section, "hit");
+            misses = counter(meterRegistry, section, "miss");
+            coalesced = counter(meterRegistry, section, "coalesced");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, PublicSection section, String result) {
+            return Counter.builder("public.cache.lookups")
+                    .description("Public response lookups; coalesced calls waited for a load already running")
+                    .tag("section", section.name().toLowerCase())
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.portfolio.backend.cache;
+
+/**
+ * Published when content shown by the public API changes
+ *
+ * @param section the changed section, or null when every section may have changed
+ */
+public record PublicContentChangedEvent(PublicSection section) {
+
+    public static PublicContentChangedEvent all() {
+        return new PublicContentChangedEvent(null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.portfolio.backend.cache;
+
+import com.portfolio.backend.dto.*;
+
+/**
+ * Sections of the public API cached by PublicContentCache
+ */
+public enum PublicSection {
+
+    ABOUT("About", AboutDTO.class, false),
+    PROJECTS("Project", ProjectDTO.class, true),
+    SKILLS("Skill", SkillDTO.class, true),
+    EXPERIENCES("Experience", ExperienceDTO.class, true),
+    EDUCATION("Education", EducationDTO.class, true),
+    LANGUAGES("Language", LanguageDTO.class, true),
+    INTERESTS("Interest", InterestDTO.class, true);
+
+    private final String entityType;
+    private final Class<?> dtoType;
+    private final boolean list;
+
+    PublicSection(String entityType, Class<?> dtoType, boolean list) {
+        this.entityType = entityType;
+        this.dtoType = dtoType;
+        this.list = list;
+    }
+
+    /**
+     * Entity type used for the section's translations
+     */
+    public String getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * DTO returned by the section, or its element type when the section is a list
+     */
+    public Class<?> getDtoType() {
+        return dtoType;
+    }
+
+    public boolean isList() {
+        return list;
+    }
+
+    /**
+     * Section whose translations use the given entity type, or null if none
+     */
+    public static PublicSection ofEntityType(String entityType) {
+        for (PublicSection section : values()) {
+            if (section.entityType.equals(entityType)) {
+                return section;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.portfolio.backend.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time
+ * The first caller for a key runs the loader; callers arriving while it runs
+ * wait for the same result, or the same exception, instead of loading again.
+ * Nothing is kept once the load completes.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Result of a call, with whether it waited for another caller's load
+     */
+    public record Result<V>(V value, boolean coalesced) {
+    }
+
+    public Result<V> execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return new Result<>(await(existing), true);
+        }
+
+        try {
+            V value = loader.get();
+            load.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Loads currently running
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
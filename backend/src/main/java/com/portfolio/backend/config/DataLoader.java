@@ -1,24 +1,43 @@
 package com.portfolio.backend.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.backend.entity.*;
 import com.portfolio.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * DataLoader - Initializes default data on application startup
- * Creates admin user and sample portfolio data if database is empty
+ * Creates admin user and sample portfolio data if database is empty.
+ *
+ * Seeding runs off the main startup thread once the context has started, and
+ * is skipped entirely (a single query on seed_state) when the fingerprint of
+ * the sample dataset has not changed since the last run. The application only
+ * reports itself ready once seeding has completed (see SeedingHealthIndicator).
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DataLoader implements CommandLineRunner {
+public class DataLoader {
+
+        static final String SEED_NAME = "portfolio";
 
         private final UserRepository userRepository;
         private final AboutRepository aboutRepository;
@@ -28,69 +47,127 @@ public class DataLoader implements CommandLineRunner {
         private final EducationRepository educationRepository;
         private final LanguageRepository languageRepository;
         private final InterestRepository interestRepository;
+        private final SeedStateRepository seedStateRepository;
         private final PasswordEncoder passwordEncoder;
-
-        @Override
-        public void run(String... args) {
+        private final TransactionTemplate transactionTemplate;
+        private final ObjectMapper objectMapper;
+        private final ObjectProvider<TranslationDataLoader> translationDataLoader;
+        private final ObjectProvider<SyntheticDataLoader> syntheticDataLoader;
+        private final SeedingStatus seedingStatus;
+
+        @Async
+        @EventListener(ApplicationStartedEvent.class)
+        public void run() {
                 log.info("=== DataLoader: Starting data initialization ===");
+                long start = System.currentTimeMillis();
+
+                try {
+                        Map<String, String> applied = seedStateRepository.findAll().stream()
+                                        .collect(Collectors.toMap(SeedState::getName, SeedState::getFingerprint));
+
+                        SeedData data = sampleData();
+                        String fingerprint = fingerprint(data);
+
+                        if (fingerprint.equals(applied.get(SEED_NAME))) {
+                                log.info("Sample data unchanged (fingerprint {}). Skipping.", fingerprint.substring(0, 12));
+                        } else {
+                                transactionTemplate.executeWithoutResult(status -> seed(data, fingerprint));
+                        }
+
+                        translationDataLoader.ifAvailable(loader -> loader.load(fingerprint, applied));
+                        syntheticDataLoader.ifAvailable(loader -> loader.load(applied));
+
+                        seedingStatus.markCompleted();
+                        log.info("=== DataLoader: Data initialization completed in {} ms ===",
+                                        System.currentTimeMillis() - start);
+                } catch (RuntimeException e) {
+                        seedingStatus.markFailed(e);
+                        log.error("=== DataLoader: Data initialization failed ===", e);
+                }
+        }
 
-                log.info("Checking existing data...");
+        /**
+         * Insert sample data into every empty table, in a single transaction
+         */
+        private void seed(SeedData data, String fingerprint) {
+                log.info("Sample data changed or never applied. Checking existing data...");
 
                 if (userRepository.count() == 0) {
-                        createAdminUser();
+                        User admin = data.admin();
+                        admin.setPassword(passwordEncoder.encode("admin123"));
+                        userRepository.save(admin);
+                        log.info("✓ Admin user created (username: admin, password: admin123)");
                 } else {
                         log.info("Users already exist. Skipping user creation.");
                 }
 
                 if (aboutRepository.count() == 0) {
-                        createAboutSection();
+                        aboutRepository.save(data.about());
+                        log.info("✓ About section created");
                 }
 
-                if (skillRepository.count() == 0) {
-                        createSkills();
-                }
-
-                if (projectRepository.count() == 0) {
-                        createProjects();
-                }
+                saveIfEmpty(skillRepository, data.skills(), "skills");
+                saveIfEmpty(projectRepository, data.projects(), "projects");
+                saveIfEmpty(experienceRepository, data.experiences(), "experiences");
+                saveIfEmpty(educationRepository, data.educations(), "education entries");
+                saveIfEmpty(languageRepository, data.languages(), "languages");
+                saveIfEmpty(interestRepository, data.interests(), "interests");
 
-                if (experienceRepository.count() == 0) {
-                        createExperiences();
-                }
-
-                if (educationRepository.count() == 0) {
-                        createEducation();
-                }
+                seedStateRepository.save(new SeedState(SEED_NAME, fingerprint));
+        }
 
-                if (languageRepository.count() == 0) {
-                        createLanguages();
+        private <T> void saveIfEmpty(JpaRepository<T, Long> repository,
+                        List<T> entities, String label) {
+                if (repository.count() == 0) {
+                        repository.saveAll(entities);
+                        log.info("✓ {} {} created", entities.size(), label);
                 }
+        }
 
-                if (interestRepository.count() == 0) {
-                        createInterests();
+        /**
+         * SHA-256 of the canonical JSON form of the sample dataset
+         */
+        String fingerprint(Object data) {
+                try {
+                        byte[] digest = MessageDigest.getInstance("SHA-256")
+                                        .digest(objectMapper.writeValueAsBytes(data));
+                        return HexFormat.of().formatHex(digest);
+                } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+                        throw new IllegalStateException("Unable to fingerprint sample data", e);
                 }
+        }
 
-                log.info("=== DataLoader: Data initialization check completed ===");
+        private SeedData sampleData() {
+                return new SeedData(
+                                sampleAdminUser(),
+                                sampleAboutSection(),
+                                sampleSkills(),
+                                sampleProjects(),
+                                sampleExperiences(),
+                                sampleEducation(),
+                                sampleLanguages(),
+                                sampleInterests());
         }
 
-        private void createAdminUser() {
-                log.info("Creating admin user...");
+        /**
+         * Sample dataset; the admin password is deliberately not part of it
+         */
+        record SeedData(User admin, About about, List<Skill> skills, List<Project> projects,
+                        List<Experience> experiences, List<Education> educations,
+                        List<Language> languages, List<Interest> interests) {
+        }
 
-                User admin = User.builder()
+        private User sampleAdminUser() {
+                // Password is encoded only when the user is actually inserted
+                return User.builder()
                                 .username("admin")
-                                .password(passwordEncoder.encode("admin123"))
                                 .email("admin@portfolio.com")
                                 .role(Role.ADMIN)
                                 .build();
-
-                userRepository.save(admin);
-                log.info("✓ Admin user created (username: admin, password: admin123)");
         }
 
-        private void createAboutSection() {
-                log.info("Creating About section...");
-
-                About about = About.builder()
+        private About sampleAboutSection() {
+                return About.builder()
                                 .name("Mohamed Bechir Elleuch")
                                 .title("Full-Stack Developer & Software Engineer")
                                 .description("Passionate Full-Stack Developer with expertise in building modern web applications. "
@@ -106,15 +183,10 @@ public class DataLoader implements CommandLineRunner {
                                 .resumeUrl("/assets/resume.pdf")
                                 .profileImageUrl("/assets/profile.jpg")
                                 .build();
-
-                aboutRepository.save(about);
-                log.info("✓ About section created");
         }
 
-        private void createSkills() {
-                log.info("Creating skills...");
-
-                List<Skill> skills = Arrays.asList(
+        private List<Skill> sampleSkills() {
+                return Arrays.asList(
                                 // Backend
                                 Skill.builder().name("Java").category("Backend").proficiencyLevel(90)
                                                 .iconUrl("java-icon.svg")
@@ -160,15 +232,10 @@ public class DataLoader implements CommandLineRunner {
                                 Skill.builder().name("AWS").category("Tools").proficiencyLevel(70)
                                                 .iconUrl("aws-icon.svg")
                                                 .displayOrder(13).build());
-
-                skillRepository.saveAll(skills);
-                log.info("✓ {} skills created", skills.size());
         }
 
-        private void createProjects() {
-                log.info("Creating projects...");
-
-                List<Project> projects = Arrays.asList(
+        private List<Project> sampleProjects() {
+                return Arrays.asList(
                                 Project.builder()
                                                 .title("E-Commerce Platform")
                                                 .description(
@@ -223,15 +290,10 @@ public class DataLoader implements CommandLineRunner {
                                                 .featured(false)
                                                 .displayOrder(4)
                                                 .build());
-
-                projectRepository.saveAll(projects);
-                log.info("✓ {} projects created", projects.size());
         }
 
-        private void createExperiences() {
-                log.info("Creating experiences...");
-
-                List<Experience> experiences = Arrays.asList(
+        private List<Experience> sampleExperiences() {
+                return Arrays.asList(
                                 Experience.builder()
                                                 .company("Tech Solutions Inc.")
                                                 .position("Full-Stack Developer")
@@ -277,15 +339,10 @@ public class DataLoader implements CommandLineRunner {
                                                                 "• Managed client relationships and project timelines")
                                                 .displayOrder(3)
                                                 .build());
-
-                experienceRepository.saveAll(experiences);
-                log.info("✓ {} experiences created", experiences.size());
         }
 
-        private void createEducation() {
-                log.info("Creating education entries...");
-
-                List<Education> educations = Arrays.asList(
+        private List<Education> sampleEducation() {
+                return Arrays.asList(
                                 Education.builder()
                                                 .institution("University of Technology")
                                                 .degree("Master's Degree")
@@ -313,15 +370,10 @@ public class DataLoader implements CommandLineRunner {
                                                 .grade("Good")
                                                 .displayOrder(2)
                                                 .build());
-
-                educationRepository.saveAll(educations);
-                log.info("✓ {} education entries created", educations.size());
         }
 
-        private void createLanguages() {
-                log.info("Creating languages...");
-
-                List<Language> languages = Arrays.asList(
+        private List<Language> sampleLanguages() {
+                return Arrays.asList(
                                 Language.builder().name("Arabic").proficiency("Native").proficiencyPercentage(100)
                                                 .displayOrder(1)
                                                 .build(),
@@ -331,15 +383,10 @@ public class DataLoader implements CommandLineRunner {
                                 Language.builder().name("English").proficiency("Fluent").proficiencyPercentage(85)
                                                 .displayOrder(3)
                                                 .build());
-
-                languageRepository.saveAll(languages);
-                log.info("✓ {} languages created", languages.size());
         }
 
-        private void createInterests() {
-                log.info("Creating interests...");
-
-                List<Interest> interests = Arrays.asList(
+        private List<Interest> sampleInterests() {
+                return Arrays.asList(
                                 Interest.builder()
                                                 .name("Open Source")
                                                 .description(
@@ -369,8 +416,5 @@ public class DataLoader implements CommandLineRunner {
                                                 .icon("pen")
                                                 .displayOrder(4)
                                                 .build());
-
-                interestRepository.saveAll(interests);
-                log.info("✓ {} interests created", interests.size());
         }
 }
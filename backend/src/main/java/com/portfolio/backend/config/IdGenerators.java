@@ -0,0 +1,168 @@
+package com.portfolio.backend.config;
+
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pooled id allocation shared by the entities and the bulk JDBC writers
+ *
+ * Entity ids come from one row per table in id_generators (see the
+ * {@link TableGenerator} on each entity): reading next_val V hands Hibernate
+ * the block (V + 1 - allocationSize, V + 1], so it only touches that table
+ * once every allocationSize inserts and can batch the inserts themselves.
+ *
+ * Tables filled by the former auto-increment columns get their row raised
+ * past their highest id while the context starts. The EntityManagerFactory
+ * depends on this bean, like on the other database initializers, so no
+ * request can insert through JPA before the rows are aligned, even though
+ * Tomcat starts while JPA is still bootstrapping. Writers that bypass JPA
+ * reserve their ids here too, as Hibernate may already hold a block above
+ * the current maximum.
+ */
+@Slf4j
+@Component
+public class IdGenerators implements InitializingBean {
+
+    static final String TABLE = "id_generators";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<TransactionTemplate> transactionTemplate; // Built on the EntityManagerFactory
+    private final boolean alignOnStartup;
+
+    /**
+     * Generators by segment (pkColumnValue), with the table of their entity
+     */
+    private final Map<String, TableGenerator> generators = new LinkedHashMap<>();
+    private final Map<String, String> tables = new LinkedHashMap<>();
+
+    public IdGenerators(JdbcTemplate jdbcTemplate, ObjectProvider<TransactionTemplate> transactionTemplate,
+            PersistenceManagedTypes managedTypes, @Value("${app.id-generators.align:true}") boolean alignOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.alignOnStartup = alignOnStartup;
+        for (String className : managedTypes.getManagedClassNames()) {
+            Class<?> type = ClassUtils.resolveClassName(className, getClass().getClassLoader());
+            for (Field field : type.getDeclaredFields()) {
+                TableGenerator generator = field.getAnnotation(TableGenerator.class);
+                if (generator != null) {
+                    generators.put(generator.pkColumnValue(), generator);
+                    tables.put(generator.pkColumnValue(), type.getAnnotation(Table.class).name());
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes the EntityManagerFactory wait for the alignment
+     */
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor entityManagerFactoryDependsOnIdGenerators() {
+        return new EntityManagerFactoryDependsOnPostProcessor(IdGenerators.class);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (alignOnStartup) {
+            align();
+        }
+    }
+
+    /**
+     * Raise every generator row above the ids already in its table
+     * Runs before Hibernate updates the schema, so it creates id_generators
+     * as Hibernate would and skips the tables that do not exist yet.
+     */
+    public void align() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE
+                + " (sequence_name VARCHAR(255) NOT NULL, next_val BIGINT, PRIMARY KEY (sequence_name))");
+        Set<String> existing = existingTables();
+        generators.forEach((segment, generator) -> {
+            if (existing.contains(tables.get(segment))) {
+                align(tables.get(segment), generator);
+            }
+        });
+    }
+
+    private Set<String> existingTables() {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            Set<String> names = new HashSet<>();
+            try (ResultSet rows = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), "%",
+                    new String[] { "TABLE" })) {
+                while (rows.next()) {
+                    names.add(rows.getString("TABLE_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            return names;
+        });
+    }
+
+    private void align(String table, TableGenerator generator) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        // The first block handed out starts right after the existing rows
+        long required = max + generator.allocationSize() - 1;
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_val FROM " + TABLE + " WHERE sequence_name = ?", Long.class, generator.pkColumnValue());
+        if (current.isEmpty()) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + TABLE + " (sequence_name, next_val) VALUES (?, ?)",
+                        generator.pkColumnValue(), required);
+                return;
+            } catch (DuplicateKeyException e) {
+                // Another instance created the row meanwhile: raise it below if needed
+            }
+        }
+        int raised = jdbcTemplate.update("UPDATE " + TABLE + " SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                required, generator.pkColumnValue(), required);
+        if (raised > 0 && max > 0) {
+            log.info("Id generator {} raised to {} above the existing rows", generator.pkColumnValue(), required);
+        }
+    }
+
+    /**
+     * Reserve a block of ids for rows inserted without JPA
+     *
+     * @param segment pkColumnValue of the entity's generator, its table name
+     * @param count   number of ids needed
+     * @return the first id of the block; the block is contiguous
+     */
+    public long reserve(String segment, long count) {
+        Long next = transactionTemplate.getObject().execute(status -> {
+            jdbcTemplate.update("UPDATE " + TABLE + " SET next_val = next_val + ? WHERE sequence_name = ?",
+                    count, segment);
+            return jdbcTemplate.queryForObject("SELECT next_val FROM " + TABLE + " WHERE sequence_name = ?",
+                    Long.class, segment);
+        });
+        // The caller gets the ids the next Hibernate allocation would have started with
+        return next - count - allocationSize(segment) + 2;
+    }
+
+    private int allocationSize(String segment) {
+        TableGenerator generator = generators.get(segment);
+        if (generator == null) {
+            throw new IllegalArgumentException("No id generator for " + segment);
+        }
+        return generator.allocationSize();
+    }
+}
@@ -63,6 +63,10 @@ public class SecurityConfig {
                                 "/api/contact/**")
                         .permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // Health and readiness probes
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // Metrics (including /actuator/prometheus) are for admins only
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
                         // Admin endpoints require ADMIN role
                         .requestMatchers("/api/v1/admin/**").hasAuthority("ROLE_ADMIN")
                         .anyRequest().authenticated())
@@ -88,9 +92,10 @@ public class SecurityConfig {
                     java.util.List.of("http://localhost:5173", "http://localhost:5174", "http://localhost:5175"));
         }
 
-        configuration.setAllowedMethods(java.util.List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(java.util.List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(
-                java.util.List.of("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With"));
+                java.util.List.of("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With", "If-Match"));
+        configuration.setExposedHeaders(java.util.List.of("ETag", "Retry-After"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // Cache preflight response for 1 hour
 
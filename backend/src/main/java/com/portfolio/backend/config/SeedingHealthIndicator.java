@@ -0,0 +1,29 @@
+package com.portfolio.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE until startup seeding has completed
+ * Part of the readiness health group, so traffic is only routed to the
+ * instance once the sample data and admin user are in place.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeedingHealthIndicator implements HealthIndicator {
+
+    private final SeedingStatus seedingStatus;
+
+    @Override
+    public Health health() {
+        if (seedingStatus.isCompleted()) {
+            return Health.up().build();
+        }
+        if (seedingStatus.getFailure() != null) {
+            return Health.down().withDetail("error", seedingStatus.getFailure().getMessage()).build();
+        }
+        return Health.outOfService().withDetail("seeding", "in progress").build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.backend.config;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks completion of the asynchronous startup seeding
+ */
+@Component
+public class SeedingStatus {
+
+    private volatile boolean completed;
+    private volatile Throwable failure;
+
+    public void markCompleted() {
+        this.completed = true;
+    }
+
+    public void markFailed(Throwable failure) {
+        this.failure = failure;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,168 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.entity.MessageStatus;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk generator for large synthetic portfolios, used for scale testing
+ *
+ * Rows are written with batched JDBC inserts, bypassing JPA, with explicit ids
+ * reserved from the entities' id generators so that translations can reference
+ * projects without reading generated keys back. The same volumes and seed always
+ * produce the same content. Each chunk is committed separately, so memory use
+ * does not grow with the volumes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final String[] CATEGORIES = { "Web", "Mobile", "Data", "DevOps", "Backend", "Frontend",
+            "Machine Learning", "Security" };
+    private static final String[] TECHNOLOGIES = { "Java", "Spring Boot", "React", "TypeScript", "MySQL",
+            "Docker", "Kubernetes", "Python", "Go", "Redis", "Kafka", "PostgreSQL", "Angular", "Node.js",
+            "GraphQL", "Terraform", "AWS", "Rust", "Kotlin", "Elasticsearch" };
+    private static final String[] WORDS = { "plateforme", "gestion", "analyse", "temps réel", "distribuée",
+            "application", "tableau de bord", "microservice", "API", "mobile", "données", "recherche",
+            "paiement", "notification", "sécurité", "performance", "cache", "automatisation" };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdGenerators idGenerators;
+
+    /**
+     * Volumes to generate; translations cover the title and description of every project
+     */
+    @Data
+    public static class Volumes {
+        private long seed = 42;
+        private int projects = 1000;
+        private int technologiesPerProject = 5;
+        private int skills = 100;
+        private int contactMessages = 1000;
+        private List<String> translationLanguages = List.of("en");
+    }
+
+    public void generate(Volumes volumes) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(volumes.getSeed());
+
+        generateProjects(volumes, random);
+        generateSkills(volumes, random);
+        generateContactMessages(volumes, random);
+
+        log.info("Synthetic data generated in {} ms: {} projects, {} technologies, {} translations, {} skills, "
+                + "{} contact messages", System.currentTimeMillis() - start, volumes.getProjects(),
+                (long) volumes.getProjects() * volumes.getTechnologiesPerProject(),
+                2L * volumes.getProjects() * volumes.getTranslationLanguages().size(), volumes.getSkills(),
+                volumes.getContactMessages());
+    }
+
+    private void generateProjects(Volumes volumes, Random random) {
+        long firstId = idGenerators.reserve("projects", volumes.getProjects());
+        long nextTranslationId = idGenerators.reserve("translations",
+                2L * volumes.getProjects() * volumes.getTranslationLanguages().size());
+        for (int from = 0; from < volumes.getProjects(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, volumes.getProjects());
+            List<Object[]> projects = new ArrayList<>(to - from);
+            List<Object[]> technologies = new ArrayList<>((to - from) * volumes.getTechnologiesPerProject());
+            List<Object[]> translations = new ArrayList<>((to - from) * 2 * volumes.getTranslationLanguages().size());
+
+            for (int i = from; i < to; i++) {
+                long id = firstId + i;
+                String title = sentence(random, 3) + " #" + i;
+                String description = "Projet synthétique " + i + " : " + sentence(random, 20) + ".";
+                LocalDateTime createdAt = EPOCH.plusMinutes(i);
+                projects.add(new Object[] { id, title, description, "https://example.com/images/" + i + ".png",
+                        random.nextInt(4) == 0 ? null : "https://demo.example.com/" + i,
+                        "https://github.com/example/project-" + i, pick(random, CATEGORIES),
+                        random.nextInt(20) == 0, i, createdAt, createdAt });
+                // Stepping by 7, coprime with the 20 technologies, keeps them distinct within a project
+                int offset = random.nextInt(TECHNOLOGIES.length);
+                for (int t = 0; t < volumes.getTechnologiesPerProject(); t++) {
+                    technologies.add(new Object[] { id, TECHNOLOGIES[(offset + 7 * t) % TECHNOLOGIES.length] });
+                }
+                for (String language : volumes.getTranslationLanguages()) {
+                    translations.add(new Object[] { nextTranslationId++, "Project", id, "title", language,
+                            "[" + language + "] " + title, createdAt, createdAt });
+                    translations.add(new Object[] { nextTranslationId++, "Project", id, "description", language,
+                            "[" + language + "] " + description, createdAt, createdAt });
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                batchInsert("INSERT INTO projects (id, title, description, image_url, demo_url, github_url, "
+                        + "category, featured, display_order, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", projects);
+                batchInsert("INSERT INTO project_technologies (project_id, technology) VALUES (?, ?)",
+                        technologies);
+                batchInsert("INSERT INTO translations (id, entity_type, entity_id, field_name, language, value, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", translations);
+            });
+        }
+    }
+
+    private void generateSkills(Volumes volumes, Random random) {
+        long firstId = idGenerators.reserve("skills", volumes.getSkills());
+        List<Object[]> skills = new ArrayList<>(volumes.getSkills());
+        for (int i = 0; i < volumes.getSkills(); i++) {
+            skills.add(new Object[] { firstId + i, pick(random, TECHNOLOGIES) + " " + i, pick(random, CATEGORIES),
+                    random.nextInt(101), null, i });
+        }
+        transactionTemplate.executeWithoutResult(status -> batchInsert(
+                "INSERT INTO skills (id, name, category, proficiency_level, icon_url, display_order) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", skills));
+    }
+
+    private void generateContactMessages(Volumes volumes, Random random) {
+        long firstId = idGenerators.reserve("contact_messages", volumes.getContactMessages());
+        for (int from = 0; from < volumes.getContactMessages(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, volumes.getContactMessages());
+            List<Object[]> messages = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                LocalDateTime createdAt = EPOCH.plusSeconds(i * 37L);
+                boolean read = random.nextInt(3) > 0;
+                messages.add(new Object[] { firstId + i, "Visiteur " + i, "visitor" + i + "@example.com",
+                        "Demande " + i + " : " + sentence(random, 4), sentence(random, 30) + ".",
+                        read ? MessageStatus.READ.name() : MessageStatus.UNREAD.name(), createdAt,
+                        read ? createdAt.plusHours(1 + random.nextInt(48)) : null });
+            }
+            transactionTemplate.executeWithoutResult(status -> batchInsert(
+                    "INSERT INTO contact_messages (id, name, email, subject, message, status, created_at, read_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", messages));
+        }
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(pick(random, WORDS));
+        }
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+        return sentence.toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
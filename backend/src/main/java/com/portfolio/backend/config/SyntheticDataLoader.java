@@ -0,0 +1,74 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.entity.SeedState;
+import com.portfolio.backend.repository.SeedStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Synthetic Data Loader
+ * Adds a large generated portfolio on top of the sample data, for scale testing.
+ *
+ * Enabled with app.synthetic-data.enabled=true in the dev profile and invoked
+ * by DataLoader after the sample data. Generation runs once per set of
+ * volumes; changing them appends a new batch, so start from an empty database
+ * to get exactly the configured volumes.
+ */
+@Slf4j
+@Component
+@Profile("dev")
+@ConditionalOnProperty(name = "app.synthetic-data.enabled", havingValue = "true")
+public class SyntheticDataLoader {
+
+    static final String SEED_NAME = "synthetic-data";
+
+    private final SyntheticDataGenerator generator;
+    private final SyntheticDataGenerator.Volumes volumes;
+    private final SeedStateRepository seedStateRepository;
+
+    public SyntheticDataLoader(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            IdGenerators idGenerators, SeedStateRepository seedStateRepository, Environment environment) {
+        this.generator = new SyntheticDataGenerator(jdbcTemplate, transactionTemplate, idGenerators);
+        this.volumes = Binder.get(environment)
+                .bind("app.synthetic-data", SyntheticDataGenerator.Volumes.class)
+                .orElseGet(SyntheticDataGenerator.Volumes::new);
+        this.seedStateRepository = seedStateRepository;
+    }
+
+    /**
+     * @param applied Fingerprints already applied, by seeder name
+     */
+    public void load(Map<String, String> applied) {
+        String fingerprint = fingerprint();
+        if (fingerprint.equals(applied.get(SEED_NAME))) {
+            log.info("Synthetic data already generated for {}. Skipping.", volumes);
+            return;
+        }
+
+        log.info("📈 Generating synthetic data: {}", volumes);
+        generator.generate(volumes);
+        seedStateRepository.save(new SeedState(SEED_NAME, fingerprint));
+    }
+
+    private String fingerprint() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(volumes.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,59 +1,140 @@
 package com.portfolio.backend.config;
 
+import com.portfolio.backend.entity.SeedState;
+import com.portfolio.backend.entity.Translation;
 import com.portfolio.backend.repository.*;
-import com.portfolio.backend.service.TranslationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Sample Translation Data Loader
- * Loads sample English translations for existing French data
+ * Loads sample English translations for existing French data.
+ *
+ * Invoked by DataLoader after the portfolio data has been seeded. The
+ * translations are only recomputed when the sample portfolio data or the
+ * rules below change, and are then upserted in a single transaction.
  */
 @Slf4j
-@Configuration
+@Component
 @Profile("dev") // Only run in development
 @RequiredArgsConstructor
 public class TranslationDataLoader {
 
+    static final String SEED_NAME = "dev-translations";
+
+    /**
+     * Bump whenever the sample translation rules below change
+     */
+    private static final String RULES_VERSION = "1";
+
+    private static final String LANGUAGE = "en";
+
     private final ProjectRepository projectRepository;
     private final SkillRepository skillRepository;
     private final ExperienceRepository experienceRepository;
     private final EducationRepository educationRepository;
     private final AboutRepository aboutRepository;
-    private final TranslationService translationService;
+    private final TranslationRepository translationRepository;
+    private final SeedStateRepository seedStateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param portfolioFingerprint Fingerprint of the sample portfolio data
+     * @param applied              Fingerprints already applied, by seeder name
+     */
+    public void load(String portfolioFingerprint, Map<String, String> applied) {
+        String fingerprint = fingerprint(portfolioFingerprint);
+        if (fingerprint.equals(applied.get(SEED_NAME))) {
+            log.info("Sample translations unchanged. Skipping.");
+            return;
+        }
 
-    @Bean
-    public CommandLineRunner loadTranslations() {
-        return args -> {
-            log.info("🌍 Loading sample English translations...");
+        log.info("🌍 Loading sample English translations...");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Translation> translations = new ArrayList<>();
 
             // Load translations for Projects
-            loadProjectTranslations();
+            loadProjectTranslations(translations);
 
             // Load translations for Skills
-            loadSkillTranslations();
+            loadSkillTranslations(translations);
 
             // Load translations for Experiences
-            loadExperienceTranslations();
+            loadExperienceTranslations(translations);
 
             // Load translations for Education
-            loadEducationTranslations();
+            loadEducationTranslations(translations);
 
             // Load translations for About
-            loadAboutTranslations();
+            loadAboutTranslations(translations);
+
+            upsert(translations);
+            seedStateRepository.save(new SeedState(SEED_NAME, fingerprint));
+            log.info("✅ {} sample translations loaded successfully!", translations.size());
+        });
+    }
+
+    /**
+     * Merge the sample translations with the existing rows (one query) and
+     * write them all in a single saveAll
+     */
+    private void upsert(List<Translation> translations) {
+        Map<String, Translation> existing = translationRepository.findByLanguage(LANGUAGE).stream()
+                .collect(Collectors.toMap(TranslationDataLoader::key, Function.identity(), (a, b) -> a));
+
+        List<Translation> toSave = new ArrayList<>(translations.size());
+        for (Translation translation : translations) {
+            Translation current = existing.get(key(translation));
+            if (current == null) {
+                toSave.add(translation);
+            } else if (!translation.getValue().equals(current.getValue())) {
+                current.setValue(translation.getValue());
+                toSave.add(current);
+            }
+        }
+        translationRepository.saveAll(toSave);
+    }
+
+    private void add(List<Translation> target, String entityType, Long entityId, Map<String, String> fields) {
+        fields.forEach((fieldName, value) -> target.add(Translation.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .fieldName(fieldName)
+                .language(LANGUAGE)
+                .value(value)
+                .build()));
+    }
+
+    private static String key(Translation t) {
+        return t.getEntityType() + "#" + t.getEntityId() + "#" + t.getFieldName();
+    }
 
-            log.info("✅ Sample translations loaded successfully!");
-        };
+    private String fingerprint(String portfolioFingerprint) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((portfolioFingerprint + ":" + RULES_VERSION).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
-    private void loadProjectTranslations() {
+    private void loadProjectTranslations(List<Translation> target) {
         projectRepository.findAll().forEach(project -> {
             Map<String, String> translations = new HashMap<>();
 
@@ -71,13 +152,13 @@ public class TranslationDataLoader {
             }
 
             if (!translations.isEmpty()) {
-                translationService.saveEntityTranslations("Project", project.getId(), "en", translations);
+                add(target, "Project", project.getId(), translations);
                 log.debug("Added English translations for project: {}", project.getTitle());
             }
         });
     }
 
-    private void loadSkillTranslations() {
+    private void loadSkillTranslations(List<Translation> target) {
         skillRepository.findAll().forEach(skill -> {
             // Skills usually have universal names (React, Java, etc.)
             // Only translate category if needed
@@ -104,13 +185,13 @@ public class TranslationDataLoader {
                 }
 
                 if (!translations.isEmpty()) {
-                    translationService.saveEntityTranslations("Skill", skill.getId(), "en", translations);
+                    add(target, "Skill", skill.getId(), translations);
                 }
             }
         });
     }
 
-    private void loadExperienceTranslations() {
+    private void loadExperienceTranslations(List<Translation> target) {
         experienceRepository.findAll().forEach(experience -> {
             Map<String, String> translations = new HashMap<>();
 
@@ -128,13 +209,13 @@ public class TranslationDataLoader {
             }
 
             if (!translations.isEmpty()) {
-                translationService.saveEntityTranslations("Experience", experience.getId(), "en", translations);
+                add(target, "Experience", experience.getId(), translations);
                 log.debug("Added English translations for experience: {}", experience.getPosition());
             }
         });
     }
 
-    private void loadEducationTranslations() {
+    private void loadEducationTranslations(List<Translation> target) {
         educationRepository.findAll().forEach(education -> {
             Map<String, String> translations = new HashMap<>();
 
@@ -158,12 +239,12 @@ public class TranslationDataLoader {
             }
 
             if (!translations.isEmpty()) {
-                translationService.saveEntityTranslations("Education", education.getId(), "en", translations);
+                add(target, "Education", education.getId(), translations);
             }
         });
     }
 
-    private void loadAboutTranslations() {
+    private void loadAboutTranslations(List<Translation> target) {
         aboutRepository.findAll().stream().findFirst().ifPresent(about -> {
             Map<String, String> translations = new HashMap<>();
 
@@ -172,8 +253,8 @@ public class TranslationDataLoader {
             translations.put("description",
                     "Welcome to my portfolio! I am a passionate developer dedicated to creating innovative solutions and delivering high-quality web applications. With expertise in modern technologies, I strive to build experiences that are not only functional but also visually stunning.");
 
-            translationService.saveEntityTranslations("About", about.getId(), "en", translations);
-            log.info("Added English translations for About section");
+            add(target, "About", about.getId(), translations);
+            log.debug("Added English translations for About section");
         });
     }
 }
@@ -1,5 +1,6 @@
 package com.portfolio.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.portfolio.backend.dto.*;
 import com.portfolio.backend.entity.MessageStatus;
 import com.portfolio.backend.service.AdminService;
@@ -8,7 +9,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,6 +28,8 @@ import java.util.List;
 @Tag(name = "Admin", description = "Admin endpoints for portfolio management")
 public class AdminController {
 
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final AdminService adminService;
 
     // ==================== DASHBOARD ====================
@@ -44,15 +49,28 @@ public class AdminController {
         log.debug("GET /api/v1/admin/about");
         AboutDTO about = adminService.getAbout();
         return about != null
-                ? ResponseEntity.ok(about)
+                ? ResponseEntity.ok().eTag(String.valueOf(about.getVersion())).body(about)
                 : ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Update About section", description = "Create or update About section")
+    @Operation(summary = "Update About section", description = "Create or update About section; an update needs the ETag of the version edited in If-Match")
     @PutMapping("/about")
-    public ResponseEntity<AboutDTO> updateAbout(@Valid @RequestBody AboutDTO aboutDTO) {
+    public ResponseEntity<AboutDTO> updateAbout(
+            @Valid @RequestBody AboutDTO aboutDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/admin/about - Updating About section");
-        return ResponseEntity.ok(adminService.saveAbout(aboutDTO));
+        AboutDTO saved = adminService.saveAbout(aboutDTO, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(saved.getVersion())).body(saved);
+    }
+
+    @Operation(summary = "Patch About section", description = "Update only the fields present in a JSON merge patch (RFC 7396) of the About section")
+    @PatchMapping(value = "/about", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<AboutDTO> patchAbout(
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/admin/about - Patching About section");
+        AboutDTO patched = adminService.patchAbout(patch, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(patched.getVersion())).body(patched);
     }
 
     // ==================== PROJECTS ====================
@@ -68,25 +86,56 @@ public class AdminController {
     @PostMapping("/projects")
     public ResponseEntity<ProjectDTO> createProject(@Valid @RequestBody ProjectDTO projectDTO) {
         log.info("POST /api/v1/admin/projects - Creating new project: {}", projectDTO.getTitle());
-        ProjectDTO created = adminService.saveProject(projectDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        ProjectDTO created = adminService.createProject(projectDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(created.getVersion())).body(created);
     }
 
-    @Operation(summary = "Update project", description = "Update an existing project")
+    @Operation(summary = "Update project", description = "Update an existing project, sent with the ETag of the version edited in If-Match; the response carries the fields written, without createdAt")
     @PutMapping("/projects/{id}")
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
-            @Valid @RequestBody ProjectDTO projectDTO) {
+            @Valid @RequestBody ProjectDTO projectDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/admin/projects/{} - Updating project", id);
-        projectDTO.setId(id);
-        return ResponseEntity.ok(adminService.saveProject(projectDTO));
+        ProjectDTO updated = adminService.updateProject(id, projectDTO, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Patch project", description = "Update only the fields present in a JSON merge patch (RFC 7396) of a project")
+    @PatchMapping(value = "/projects/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ProjectDTO> patchProject(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/admin/projects/{} - Patching project", id);
+        ProjectDTO patched = adminService.patchProject(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(patched.getVersion())).body(patched);
+    }
+
+    @Operation(summary = "Create or update projects in batch", description = "Validate an array of projects and write it in one transaction; items with an id are updated")
+    @PostMapping("/projects/batch")
+    public ResponseEntity<BatchResultDTO<ProjectDTO>> saveProjectsBatch(
+            @RequestBody List<ProjectDTO> items,
+            @RequestParam(required = false) BatchMode mode) {
+        log.info("POST /api/v1/admin/projects/batch - {} items", items.size());
+        return batchResponse(adminService.saveProjects(items, mode));
     }
 
-    @Operation(summary = "Delete project", description = "Delete a project by ID")
+    @Operation(summary = "Reorder projects", description = "Set the display order of projects from an ordered list of IDs, in one statement")
+    @PutMapping("/projects/order")
+    public ResponseEntity<Void> reorderProjects(@RequestBody List<Long> ids) {
+        log.info("PUT /api/v1/admin/projects/order - {} ids", ids.size());
+        adminService.reorderProjects(ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Delete project", description = "Delete a project by ID, sent with the ETag of the version deleted in If-Match")
     @DeleteMapping("/projects/{id}")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteProject(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/v1/admin/projects/{}", id);
-        adminService.deleteProject(id);
+        adminService.deleteProject(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
@@ -103,25 +152,56 @@ public class AdminController {
     @PostMapping("/skills")
     public ResponseEntity<SkillDTO> createSkill(@Valid @RequestBody SkillDTO skillDTO) {
         log.info("POST /api/v1/admin/skills - Creating new skill: {}", skillDTO.getName());
-        SkillDTO created = adminService.saveSkill(skillDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        SkillDTO created = adminService.createSkill(skillDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(created.getVersion())).body(created);
     }
 
-    @Operation(summary = "Update skill", description = "Update an existing skill")
+    @Operation(summary = "Update skill", description = "Update an existing skill, sent with the ETag of the version edited in If-Match")
     @PutMapping("/skills/{id}")
     public ResponseEntity<SkillDTO> updateSkill(
             @PathVariable Long id,
-            @Valid @RequestBody SkillDTO skillDTO) {
+            @Valid @RequestBody SkillDTO skillDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/admin/skills/{} - Updating skill", id);
-        skillDTO.setId(id);
-        return ResponseEntity.ok(adminService.saveSkill(skillDTO));
+        SkillDTO updated = adminService.updateSkill(id, skillDTO, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Patch skill", description = "Update only the fields present in a JSON merge patch (RFC 7396) of a skill")
+    @PatchMapping(value = "/skills/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<SkillDTO> patchSkill(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/admin/skills/{} - Patching skill", id);
+        SkillDTO patched = adminService.patchSkill(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(patched.getVersion())).body(patched);
     }
 
-    @Operation(summary = "Delete skill", description = "Delete a skill by ID")
+    @Operation(summary = "Create or update skills in batch", description = "Validate an array of skills and write it in one transaction; items with an id are updated")
+    @PostMapping("/skills/batch")
+    public ResponseEntity<BatchResultDTO<SkillDTO>> saveSkillsBatch(
+            @RequestBody List<SkillDTO> items,
+            @RequestParam(required = false) BatchMode mode) {
+        log.info("POST /api/v1/admin/skills/batch - {} items", items.size());
+        return batchResponse(adminService.saveSkills(items, mode));
+    }
+
+    @Operation(summary = "Reorder skills", description = "Set the display order of skills from an ordered list of IDs, in one statement")
+    @PutMapping("/skills/order")
+    public ResponseEntity<Void> reorderSkills(@RequestBody List<Long> ids) {
+        log.info("PUT /api/v1/admin/skills/order - {} ids", ids.size());
+        adminService.reorderSkills(ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Delete skill", description = "Delete a skill by ID, sent with the ETag of the version deleted in If-Match")
     @DeleteMapping("/skills/{id}")
-    public ResponseEntity<Void> deleteSkill(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteSkill(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/v1/admin/skills/{}", id);
-        adminService.deleteSkill(id);
+        adminService.deleteSkill(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
@@ -138,25 +218,56 @@ public class AdminController {
     @PostMapping("/experiences")
     public ResponseEntity<ExperienceDTO> createExperience(@Valid @RequestBody ExperienceDTO experienceDTO) {
         log.info("POST /api/v1/admin/experiences - Creating new experience");
-        ExperienceDTO created = adminService.saveExperience(experienceDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        ExperienceDTO created = adminService.createExperience(experienceDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(created.getVersion())).body(created);
     }
 
-    @Operation(summary = "Update experience", description = "Update an existing work experience")
+    @Operation(summary = "Update experience", description = "Update an existing work experience, sent with the ETag of the version edited in If-Match")
     @PutMapping("/experiences/{id}")
     public ResponseEntity<ExperienceDTO> updateExperience(
             @PathVariable Long id,
-            @Valid @RequestBody ExperienceDTO experienceDTO) {
+            @Valid @RequestBody ExperienceDTO experienceDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/admin/experiences/{} - Updating experience", id);
-        experienceDTO.setId(id);
-        return ResponseEntity.ok(adminService.saveExperience(experienceDTO));
+        ExperienceDTO updated = adminService.updateExperience(id, experienceDTO, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
     }
 
-    @Operation(summary = "Delete experience", description = "Delete a work experience by ID")
+    @Operation(summary = "Patch experience", description = "Update only the fields present in a JSON merge patch (RFC 7396) of a work experience")
+    @PatchMapping(value = "/experiences/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ExperienceDTO> patchExperience(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/admin/experiences/{} - Patching experience", id);
+        ExperienceDTO patched = adminService.patchExperience(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(patched.getVersion())).body(patched);
+    }
+
+    @Operation(summary = "Create or update experiences in batch", description = "Validate an array of experiences and write it in one transaction; items with an id are updated")
+    @PostMapping("/experiences/batch")
+    public ResponseEntity<BatchResultDTO<ExperienceDTO>> saveExperiencesBatch(
+            @RequestBody List<ExperienceDTO> items,
+            @RequestParam(required = false) BatchMode mode) {
+        log.info("POST /api/v1/admin/experiences/batch - {} items", items.size());
+        return batchResponse(adminService.saveExperiences(items, mode));
+    }
+
+    @Operation(summary = "Reorder experiences", description = "Set the display order of experiences from an ordered list of IDs, in one statement")
+    @PutMapping("/experiences/order")
+    public ResponseEntity<Void> reorderExperiences(@RequestBody List<Long> ids) {
+        log.info("PUT /api/v1/admin/experiences/order - {} ids", ids.size());
+        adminService.reorderExperiences(ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Delete experience", description = "Delete a work experience by ID, sent with the ETag of the version deleted in If-Match")
     @DeleteMapping("/experiences/{id}")
-    public ResponseEntity<Void> deleteExperience(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteExperience(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/v1/admin/experiences/{}", id);
-        adminService.deleteExperience(id);
+        adminService.deleteExperience(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
@@ -173,25 +284,56 @@ public class AdminController {
     @PostMapping("/education")
     public ResponseEntity<EducationDTO> createEducation(@Valid @RequestBody EducationDTO educationDTO) {
         log.info("POST /api/v1/admin/education - Creating new education entry");
-        EducationDTO created = adminService.saveEducation(educationDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        EducationDTO created = adminService.createEducation(educationDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(created.getVersion())).body(created);
     }
 
-    @Operation(summary = "Update education", description = "Update an existing education entry")
+    @Operation(summary = "Update education", description = "Update an existing education entry, sent with the ETag of the version edited in If-Match")
     @PutMapping("/education/{id}")
     public ResponseEntity<EducationDTO> updateEducation(
             @PathVariable Long id,
-            @Valid @RequestBody EducationDTO educationDTO) {
+            @Valid @RequestBody EducationDTO educationDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/admin/education/{} - Updating education", id);
-        educationDTO.setId(id);
-        return ResponseEntity.ok(adminService.saveEducation(educationDTO));
+        EducationDTO updated = adminService.updateEducation(id, educationDTO, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
     }
 
-    @Operation(summary = "Delete education", description = "Delete an education entry by ID")
+    @Operation(summary = "Patch education", description = "Update only the fields present in a JSON merge patch (RFC 7396) of an education entry")
+    @PatchMapping(value = "/education/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<EducationDTO> patchEducation(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/admin/education/{} - Patching education", id);
+        EducationDTO patched = adminService.patchEducation(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(patched.getVersion())).body(patched);
+    }
+
+    @Operation(summary = "Create or update education entries in batch", description = "Validate an array of education entries and write it in one transaction; items with an id are updated")
+    @PostMapping("/education/batch")
+    public ResponseEntity<BatchResultDTO<EducationDTO>> saveEducationsBatch(
+            @RequestBody List<EducationDTO> items,
+            @RequestParam(required = false) BatchMode mode) {
+        log.info("POST /api/v1/admin/education/batch - {} items", items.size());
+        return batchResponse(adminService.saveEducations(items, mode));
+    }
+
+    @Operation(summary = "Reorder education entries", description = "Set the display order of education entries from an ordered list of IDs, in one statement")
+    @PutMapping("/education/order")
+    public ResponseEntity<Void> reorderEducations(@RequestBody List<Long> ids) {
+        log.info("PUT /api/v1/admin/education/order - {} ids", ids.size());
+        adminService.reorderEducations(ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Delete education", description = "Delete an education entry by ID, sent with the ETag of the version deleted in If-Match")
     @DeleteMapping("/education/{id}")
-    public ResponseEntity<Void> deleteEducation(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteEducation(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/v1/admin/education/{}", id);
-        adminService.deleteEducation(id);
+        adminService.deleteEducation(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
@@ -208,25 +350,56 @@ public class AdminController {
     @PostMapping("/languages")
     public ResponseEntity<LanguageDTO> createLanguage(@Valid @RequestBody LanguageDTO languageDTO) {
         log.info("POST /api/v1/admin/languages - Creating new language");
-        LanguageDTO created = adminService.saveLanguage(languageDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        LanguageDTO created = adminService.createLanguage(languageDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(created.getVersion())).body(created);
     }
 
-    @Operation(summary = "Update language", description = "Update an existing language")
+    @Operation(summary = "Update language", description = "Update an existing language, sent with the ETag of the version edited in If-Match")
     @PutMapping("/languages/{id}")
     public ResponseEntity<LanguageDTO> updateLanguage(
             @PathVariable Long id,
-            @Valid @RequestBody LanguageDTO languageDTO) {
+            @Valid @RequestBody LanguageDTO languageDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/admin/languages/{} - Updating language", id);
-        languageDTO.setId(id);
-        return ResponseEntity.ok(adminService.saveLanguage(languageDTO));
+        LanguageDTO updated = adminService.updateLanguage(id, languageDTO, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Patch language", description = "Update only the fields present in a JSON merge patch (RFC 7396) of a language")
+    @PatchMapping(value = "/languages/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<LanguageDTO> patchLanguage(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/admin/languages/{} - Patching language", id);
+        LanguageDTO patched = adminService.patchLanguage(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(patched.getVersion())).body(patched);
     }
 
-    @Operation(summary = "Delete language", description = "Delete a language by ID")
+    @Operation(summary = "Create or update languages in batch", description = "Validate an array of languages and write it in one transaction; items with an id are updated")
+    @PostMapping("/languages/batch")
+    public ResponseEntity<BatchResultDTO<LanguageDTO>> saveLanguagesBatch(
+            @RequestBody List<LanguageDTO> items,
+            @RequestParam(required = false) BatchMode mode) {
+        log.info("POST /api/v1/admin/languages/batch - {} items", items.size());
+        return batchResponse(adminService.saveLanguages(items, mode));
+    }
+
+    @Operation(summary = "Reorder languages", description = "Set the display order of languages from an ordered list of IDs, in one statement")
+    @PutMapping("/languages/order")
+    public ResponseEntity<Void> reorderLanguages(@RequestBody List<Long> ids) {
+        log.info("PUT /api/v1/admin/languages/order - {} ids", ids.size());
+        adminService.reorderLanguages(ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Delete language", description = "Delete a language by ID, sent with the ETag of the version deleted in If-Match")
     @DeleteMapping("/languages/{id}")
-    public ResponseEntity<Void> deleteLanguage(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteLanguage(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/v1/admin/languages/{}", id);
-        adminService.deleteLanguage(id);
+        adminService.deleteLanguage(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
@@ -243,25 +416,56 @@ public class AdminController {
     @PostMapping("/interests")
     public ResponseEntity<InterestDTO> createInterest(@Valid @RequestBody InterestDTO interestDTO) {
         log.info("POST /api/v1/admin/interests - Creating new interest");
-        InterestDTO created = adminService.saveInterest(interestDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        InterestDTO created = adminService.createInterest(interestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(created.getVersion())).body(created);
     }
 
-    @Operation(summary = "Update interest", description = "Update an existing interest")
+    @Operation(summary = "Update interest", description = "Update an existing interest, sent with the ETag of the version edited in If-Match")
     @PutMapping("/interests/{id}")
     public ResponseEntity<InterestDTO> updateInterest(
             @PathVariable Long id,
-            @Valid @RequestBody InterestDTO interestDTO) {
+            @Valid @RequestBody InterestDTO interestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/admin/interests/{} - Updating interest", id);
-        interestDTO.setId(id);
-        return ResponseEntity.ok(adminService.saveInterest(interestDTO));
+        InterestDTO updated = adminService.updateInterest(id, interestDTO, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(updated.getVersion())).body(updated);
+    }
+
+    @Operation(summary = "Patch interest", description = "Update only the fields present in a JSON merge patch (RFC 7396) of an interest")
+    @PatchMapping(value = "/interests/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<InterestDTO> patchInterest(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/admin/interests/{} - Patching interest", id);
+        InterestDTO patched = adminService.patchInterest(id, patch, ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(patched.getVersion())).body(patched);
+    }
+
+    @Operation(summary = "Create or update interests in batch", description = "Validate an array of interests and write it in one transaction; items with an id are updated")
+    @PostMapping("/interests/batch")
+    public ResponseEntity<BatchResultDTO<InterestDTO>> saveInterestsBatch(
+            @RequestBody List<InterestDTO> items,
+            @RequestParam(required = false) BatchMode mode) {
+        log.info("POST /api/v1/admin/interests/batch - {} items", items.size());
+        return batchResponse(adminService.saveInterests(items, mode));
+    }
+
+    @Operation(summary = "Reorder interests", description = "Set the display order of interests from an ordered list of IDs, in one statement")
+    @PutMapping("/interests/order")
+    public ResponseEntity<Void> reorderInterests(@RequestBody List<Long> ids) {
+        log.info("PUT /api/v1/admin/interests/order - {} ids", ids.size());
+        adminService.reorderInterests(ids);
+        return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Delete interest", description = "Delete an interest by ID")
+    @Operation(summary = "Delete interest", description = "Delete an interest by ID, sent with the ETag of the version deleted in If-Match")
     @DeleteMapping("/interests/{id}")
-    public ResponseEntity<Void> deleteInterest(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteInterest(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("DELETE /api/v1/admin/interests/{}", id);
-        adminService.deleteInterest(id);
+        adminService.deleteInterest(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
 
@@ -289,4 +493,13 @@ public class AdminController {
         adminService.deleteMessage(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 200 when the batch was applied, 400 when an atomic batch was rejected
+     * A best-effort batch always answers 200; its failed items are in the body.
+     */
+    private static <T> ResponseEntity<BatchResultDTO<T>> batchResponse(BatchResultDTO<T> result) {
+        boolean rejected = result.getMode() == BatchMode.ATOMIC && result.getFailed() > 0;
+        return ResponseEntity.status(rejected ? HttpStatus.BAD_REQUEST : HttpStatus.OK).body(result);
+    }
 }
@@ -2,6 +2,7 @@ package com.portfolio.backend.controller;
 
 import com.portfolio.backend.dto.JwtResponse;
 import com.portfolio.backend.dto.LoginRequest;
+import com.portfolio.backend.exception.UnauthorizedException;
 import com.portfolio.backend.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,4 +19,13 @@ public class AuthController {
     public ResponseEntity<JwtResponse> authenticateUser(@RequestBody LoginRequest loginRequest) {
         return ResponseEntity.ok(authService.authenticateUser(loginRequest));
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new UnauthorizedException("Missing bearer token");
+        }
+        authService.logout(authHeader.substring(7));
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,6 +1,9 @@
 package com.portfolio.backend.controller;
 
+import com.portfolio.backend.cache.PublicContentCache;
+import com.portfolio.backend.cache.PublicSection;
 import com.portfolio.backend.dto.*;
+import com.portfolio.backend.resilience.DatabaseCircuitBreaker;
 import com.portfolio.backend.service.PortfolioService;
 import com.portfolio.backend.util.TranslationHelper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Public Portfolio Controller
@@ -25,18 +29,22 @@ public class PortfolioController {
 
     private final PortfolioService portfolioService;
     private final TranslationHelper translationHelper;
+    private final PublicContentCache publicContentCache;
+    private final DatabaseCircuitBreaker databaseCircuitBreaker;
 
     @Operation(summary = "Get About section", description = "Retrieve personal information and bio")
     @GetMapping("/about")
     public ResponseEntity<AboutDTO> getAbout(
             @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
-        String lang = extractLanguage(language);
+        String lang = TranslationHelper.extractLanguage(language);
         log.debug("GET /api/about - Fetching about section [lang={}]", lang);
-        AboutDTO about = portfolioService.getAbout();
-
-        if (about != null && about.getId() != null) {
-            translationHelper.applyTranslations(about, "About", about.getId(), lang);
-        }
+        AboutDTO about = cached(PublicSection.ABOUT, lang, () -> {
+            AboutDTO loaded = portfolioService.getAbout();
+            if (loaded != null && loaded.getId() != null) {
+                translationHelper.applyTranslations(loaded, "About", loaded.getId(), lang);
+            }
+            return loaded;
+        });
 
         return about != null
                 ? ResponseEntity.ok(about)
@@ -47,10 +55,9 @@ public class PortfolioController {
     @GetMapping("/projects")
     public ResponseEntity<List<ProjectDTO>> getProjects(
             @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
-        String lang = extractLanguage(language);
+        String lang = TranslationHelper.extractLanguage(language);
         log.debug("GET /api/projects - Fetching all projects [lang={}]", lang);
-        List<ProjectDTO> projects = portfolioService.getAllProjects();
-        translationHelper.applyTranslationsToList(projects, "Project", lang);
+        List<ProjectDTO> projects = translatedList(PublicSection.PROJECTS, lang, portfolioService::getAllProjects);
         return ResponseEntity.ok(projects);
     }
 
@@ -58,10 +65,9 @@ public class PortfolioController {
     @GetMapping("/skills")
     public ResponseEntity<List<SkillDTO>> getSkills(
             @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
-        String lang = extractLanguage(language);
+        String lang = TranslationHelper.extractLanguage(language);
         log.debug("GET /api/skills - Fetching all skills [lang={}]", lang);
-        List<SkillDTO> skills = portfolioService.getAllSkills();
-        translationHelper.applyTranslationsToList(skills, "Skill", lang);
+        List<SkillDTO> skills = translatedList(PublicSection.SKILLS, lang, portfolioService::getAllSkills);
         return ResponseEntity.ok(skills);
     }
 
@@ -69,10 +75,9 @@ public class PortfolioController {
     @GetMapping("/experiences")
     public ResponseEntity<List<ExperienceDTO>> getExperiences(
             @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
-        String lang = extractLanguage(language);
+        String lang = TranslationHelper.extractLanguage(language);
         log.debug("GET /api/experiences - Fetching all experiences [lang={}]", lang);
-        List<ExperienceDTO> experiences = portfolioService.getAllExperiences();
-        translationHelper.applyTranslationsToList(experiences, "Experience", lang);
+        List<ExperienceDTO> experiences = translatedList(PublicSection.EXPERIENCES, lang, portfolioService::getAllExperiences);
         return ResponseEntity.ok(experiences);
     }
 
@@ -80,10 +85,9 @@ public class PortfolioController {
     @GetMapping("/education")
     public ResponseEntity<List<EducationDTO>> getEducation(
             @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
-        String lang = extractLanguage(language);
+        String lang = TranslationHelper.extractLanguage(language);
         log.debug("GET /api/education - Fetching all education [lang={}]", lang);
-        List<EducationDTO> educations = portfolioService.getAllEducation();
-        translationHelper.applyTranslationsToList(educations, "Education", lang);
+        List<EducationDTO> educations = translatedList(PublicSection.EDUCATION, lang, portfolioService::getAllEducation);
         return ResponseEntity.ok(educations);
     }
 
@@ -91,10 +95,9 @@ public class PortfolioController {
     @GetMapping("/languages")
     public ResponseEntity<List<LanguageDTO>> getLanguages(
             @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
-        String lang = extractLanguage(language);
+        String lang = TranslationHelper.extractLanguage(language);
         log.debug("GET /api/languages - Fetching all languages [lang={}]", lang);
-        List<LanguageDTO> languages = portfolioService.getAllLanguages();
-        translationHelper.applyTranslationsToList(languages, "Language", lang);
+        List<LanguageDTO> languages = translatedList(PublicSection.LANGUAGES, lang, portfolioService::getAllLanguages);
         return ResponseEntity.ok(languages);
     }
 
@@ -102,40 +105,28 @@ public class PortfolioController {
     @GetMapping("/interests")
     public ResponseEntity<List<InterestDTO>> getInterests(
             @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
-        String lang = extractLanguage(language);
+        String lang = TranslationHelper.extractLanguage(language);
         log.debug("GET /api/interests - Fetching all interests [lang={}]", lang);
-        List<InterestDTO> interests = portfolioService.getAllInterests();
-        translationHelper.applyTranslationsToList(interests, "Interest", lang);
+        List<InterestDTO> interests = translatedList(PublicSection.INTERESTS, lang, portfolioService::getAllInterests);
         return ResponseEntity.ok(interests);
     }
 
     /**
-     * Extract language code from Accept-Language header
-     * Supports formats: "fr", "en", "fr-FR", "en-US"
-     * Returns lowercase 2-letter ISO code
+     * Translated list of a section, from the public cache
      */
-    private String extractLanguage(String acceptLanguage) {
-        if (acceptLanguage == null || acceptLanguage.trim().isEmpty()) {
-            return "fr"; // Default to French
-        }
-
-        // Extract first language from comma-separated list
-        String lang = acceptLanguage.split(",")[0].trim();
-
-        // Extract language code (before hyphen if present)
-        if (lang.contains("-")) {
-            lang = lang.split("-")[0];
-        }
-
-        // Normalize to lowercase
-        lang = lang.toLowerCase();
-
-        // Validate supported languages
-        if ("en".equals(lang) || "fr".equals(lang)) {
-            return lang;
-        }
+    private <T> List<T> translatedList(PublicSection section, String lang, Supplier<List<T>> query) {
+        return cached(section, lang, () -> {
+            List<T> dtos = query.get();
+            translationHelper.applyTranslationsToList(dtos, section.getEntityType(), lang);
+            return dtos;
+        });
+    }
 
-        // Default to French for unsupported languages
-        return "fr";
+    /**
+     * Response of a section from the public cache; misses are loaded through the
+     * circuit breaker, which falls back to the disk snapshot when the database is down
+     */
+    private <T> T cached(PublicSection section, String lang, Supplier<T> loader) {
+        return publicContentCache.get(section, lang, () -> databaseCircuitBreaker.read(section, lang, loader));
     }
 }
@@ -0,0 +1,67 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.dto.RecordingStatusDTO;
+import com.portfolio.backend.monitoring.jfr.JfrRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Profiling Controller
+ * Starts, stops and downloads an on-demand JFR recording of the running backend
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/profiling/recording")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Admin endpoints for portfolio management")
+public class ProfilingController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @Operation(summary = "Get recording state", description = "State, size and bounds of the current or last JFR recording")
+    @GetMapping
+    public ResponseEntity<RecordingStatusDTO> getStatus() {
+        log.debug("GET /api/v1/admin/profiling/recording");
+        return ResponseEntity.ok(jfrRecordingService.status());
+    }
+
+    @Operation(summary = "Start a JFR recording", description = "Start a bounded recording with the default or profile settings")
+    @PostMapping("/start")
+    public ResponseEntity<RecordingStatusDTO> start(
+            @RequestParam(defaultValue = "120") long durationSeconds,
+            @RequestParam(defaultValue = "profile") String settings) {
+        log.info("POST /api/v1/admin/profiling/recording/start - {}s with {} settings", durationSeconds, settings);
+        return ResponseEntity.ok(jfrRecordingService.start(Duration.ofSeconds(durationSeconds), settings));
+    }
+
+    @Operation(summary = "Stop the JFR recording", description = "Stop the running recording, keeping it for download")
+    @PostMapping("/stop")
+    public ResponseEntity<RecordingStatusDTO> stop() {
+        log.info("POST /api/v1/admin/profiling/recording/stop");
+        return ResponseEntity.ok(jfrRecordingService.stop());
+    }
+
+    @Operation(summary = "Download the JFR recording", description = "Download the current or last recording as a .jfr file")
+    @GetMapping("/download")
+    public ResponseEntity<InputStreamResource> download() {
+        log.info("GET /api/v1/admin/profiling/recording/download");
+        String filename = "portfolio-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + ".jfr";
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(new InputStreamResource(jfrRecordingService.download()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.portfolio.backend.controller;
+
+import com.portfolio.backend.exception.ResourceNotFoundException;
+import com.portfolio.backend.monitoring.tracing.Trace;
+import com.portfolio.backend.monitoring.tracing.TraceBuffer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Trace Controller
+ * Lists and inspects the request traces kept in memory
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/traces")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Admin endpoints for portfolio management")
+public class TraceController {
+
+    private final TraceBuffer traceBuffer;
+
+    @Operation(summary = "List recent traces", description = "Most recent request traces, newest first")
+    @GetMapping
+    public ResponseEntity<List<Trace.Summary>> getRecent() {
+        log.debug("GET /api/v1/admin/traces");
+        return ResponseEntity.ok(traceBuffer.recent().stream().map(Trace::summary).toList());
+    }
+
+    @Operation(summary = "List slowest traces", description = "Slowest request traces since startup, slowest first")
+    @GetMapping("/slowest")
+    public ResponseEntity<List<Trace.Summary>> getSlowest() {
+        log.debug("GET /api/v1/admin/traces/slowest");
+        return ResponseEntity.ok(traceBuffer.slowest().stream().map(Trace::summary).toList());
+    }
+
+    @Operation(summary = "Get a trace", description = "Trace with its controller, service, repository, translation and serialization spans")
+    @GetMapping("/{traceId}")
+    public ResponseEntity<Trace> getTrace(@PathVariable String traceId) {
+        log.debug("GET /api/v1/admin/traces/{}", traceId);
+        return ResponseEntity.ok(traceBuffer.find(traceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Trace not found or no longer kept: " + traceId)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.portfolio.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * DataSource sending read-only transactions to a replica pool
+ * Connections are only fetched at the first statement, once the transaction has
+ * marked them read-only, and read-only connections come from the replica. For
+ * max-lag after a write commits on this instance, they come from the primary
+ * instead: the admin reads their own change, and the public cache is not
+ * refilled from a replica that has not applied it yet. A replica that cannot
+ * give a connection is also replaced by the primary.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final long maxLagNanos;
+    private final Counter replicaReads;
+    private final Counter readsAfterWrite;
+    private final Counter replicaFailures;
+    private volatile long lastWriteNanos;
+    private volatile boolean written;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, HikariDataSource replica, Duration maxLag,
+            MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagNanos = maxLag.toNanos();
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.readsAfterWrite = readCounter(meterRegistry, "primary_after_write");
+        this.replicaFailures = readCounter(meterRegistry, "primary_replica_unavailable");
+        setTargetDataSource(new WriteDataSource(primary));
+        setReadOnlyDataSource(new ReadDataSource(replica));
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("datasource.read.connections")
+                .description("Connections handed to read-only transactions, by pool and reason")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    private boolean recentlyWritten() {
+        return written && System.nanoTime() - lastWriteNanos < maxLagNanos;
+    }
+
+    private void markWritten() {
+        lastWriteNanos = System.nanoTime();
+        written = true;
+    }
+
+    /**
+     * Primary pool for read-write work; the write is remembered once committed
+     */
+    private class WriteDataSource extends DelegatingDataSource {
+
+        WriteDataSource(HikariDataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        markWritten();
+                    }
+                });
+            } else {
+                markWritten();
+            }
+            return connection;
+        }
+    }
+
+    /**
+     * Replica pool for read-only work, or the primary while the replica may lag or is down
+     */
+    private class ReadDataSource extends DelegatingDataSource {
+
+        ReadDataSource(HikariDataSource replica) {
+            super(replica);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (recentlyWritten()) {
+                readsAfterWrite.increment();
+                return primary.getConnection();
+            }
+            try {
+                Connection connection = super.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Replica unavailable, reading from the primary: {}", e.getMessage());
+                replicaFailures.increment();
+                return primary.getConnection();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Primary and replica connection pools
+ * The primary is configured by spring.datasource as usual and the replica by
+ * app.datasource.replica with the same keys. Both pools publish the hikaricp
+ * metrics, tagged with pool=primary or pool=replica. The replica URL is read
+ * when the bean is created rather than in a condition, which Spring AOT would
+ * evaluate at build time: without it, the primary pool is used alone.
+ */
+@Slf4j
+@Configuration
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(properties, binder, "spring.datasource.hikari", "primary", meterRegistry);
+        if (replicaUrl.isBlank()) {
+            return primary;
+        }
+        log.info("Read-only transactions use the replica pool");
+        DataSourceProperties replicaProperties = binder.bind("app.datasource.replica", DataSourceProperties.class)
+                .get();
+        HikariDataSource replica = pool(replicaProperties, binder, "app.datasource.replica.hikari", "replica",
+                meterRegistry);
+        return new ReadWriteRoutingDataSource(primary, replica, maxLag, meterRegistry);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, String prefix, String name,
+            MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(prefix, Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -19,6 +19,9 @@ public class AboutDTO {
     @Schema(description = "Unique identifier", example = "1")
     private Long id;
 
+    @Schema(description = "Version of the stored entity, also sent as ETag; expected back in If-Match", example = "3")
+    private Long version;
+
     @NotBlank(message = "Name is required")
     @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
     @Schema(description = "Full name", example = "Mohamed Bechir Elleuch", required = true)
@@ -0,0 +1,17 @@
+package com.portfolio.backend.dto;
+
+/**
+ * How a batch write treats items that cannot be written
+ */
+public enum BatchMode {
+
+    /**
+     * Nothing is written unless every item is
+     */
+    ATOMIC,
+
+    /**
+     * Every valid item is written; the others are reported
+     */
+    BEST_EFFORT
+}
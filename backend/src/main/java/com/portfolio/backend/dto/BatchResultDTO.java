@@ -0,0 +1,64 @@
+package com.portfolio.backend.dto;
+
+import com.portfolio.backend.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a batch create/update, item by item in request order")
+public class BatchResultDTO<T> {
+
+    @Schema(description = "Mode the batch was written in", example = "ATOMIC")
+    private BatchMode mode;
+
+    @Schema(description = "Number of items created or updated", example = "12")
+    private int succeeded;
+
+    @Schema(description = "Number of items not written", example = "0")
+    private int failed;
+
+    @Schema(description = "One result per submitted item")
+    private List<ItemResult<T>> items;
+
+    public enum ItemStatus {
+        CREATED,
+        UPDATED,
+        INVALID,
+        NOT_FOUND,
+        /** An update whose version is missing or no longer the stored one */
+        CONFLICT,
+        FAILED,
+        /** Valid, but not written because another item of an atomic batch failed */
+        SKIPPED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult<T> {
+
+        @Schema(description = "Position of the item in the request", example = "0")
+        private int index;
+
+        @Schema(description = "What happened to the item", example = "CREATED")
+        private ItemStatus status;
+
+        @Schema(description = "The item as saved, when it was written")
+        private T data;
+
+        @Schema(description = "Why the item was not written")
+        private String message;
+
+        @Schema(description = "Validation errors of the item")
+        private List<ErrorResponse.ValidationError> validationErrors;
+    }
+}
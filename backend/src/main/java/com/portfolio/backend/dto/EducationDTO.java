@@ -18,6 +18,9 @@ public class EducationDTO {
     @Schema(description = "Unique identifier", example = "1")
     private Long id;
 
+    @Schema(description = "Version of the stored entity, also sent as ETag; expected back in If-Match", example = "3")
+    private Long version;
+
     @NotBlank(message = "Institution name is required")
     @Size(min = 2, max = 200, message = "Institution name must be between 2 and 200 characters")
     @Schema(description = "Institution name", example = "University of Tunis", required = true)
@@ -18,6 +18,9 @@ public class InterestDTO {
     @Schema(description = "Unique identifier", example = "1")
     private Long id;
 
+    @Schema(description = "Version of the stored entity, also sent as ETag; expected back in If-Match", example = "3")
+    private Long version;
+
     @NotBlank(message = "Interest name is required")
     @Size(min = 2, max = 100, message = "Interest name must be between 2 and 100 characters")
     @Schema(description = "Interest name", example = "Open Source Contribution", required = true)
@@ -20,6 +20,9 @@ public class LanguageDTO {
     @Schema(description = "Unique identifier", example = "1")
     private Long id;
 
+    @Schema(description = "Version of the stored entity, also sent as ETag; expected back in If-Match", example = "3")
+    private Long version;
+
     @NotBlank(message = "Language name is required")
     @Size(min = 2, max = 100, message = "Language name must be between 2 and 100 characters")
     @Schema(description = "Language name", example = "English", required = true)
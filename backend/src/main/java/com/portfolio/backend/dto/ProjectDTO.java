@@ -21,6 +21,9 @@ public class ProjectDTO {
     @Schema(description = "Unique identifier", example = "1")
     private Long id;
 
+    @Schema(description = "Version of the stored entity, also sent as ETag; expected back in If-Match", example = "3")
+    private Long version;
+
     @NotBlank(message = "Title is required")
     @Size(min = 2, max = 200, message = "Title must be between 2 and 200 characters")
     @Schema(description = "Project title", example = "E-Commerce Platform", required = true)
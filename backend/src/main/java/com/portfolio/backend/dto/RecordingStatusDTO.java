@@ -0,0 +1,34 @@
+package com.portfolio.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "State of the on-demand JFR recording")
+public class RecordingStatusDTO {
+
+    @Schema(description = "Recording state", example = "RUNNING")
+    private String state;
+
+    @Schema(description = "JFR settings used", example = "profile")
+    private String settings;
+
+    @Schema(description = "Start time of the recording")
+    private Instant startTime;
+
+    @Schema(description = "Maximum duration in seconds, after which the recording stops by itself", example = "120")
+    private Long durationSeconds;
+
+    @Schema(description = "Maximum size kept on disk in bytes", example = "104857600")
+    private Long maxSizeBytes;
+
+    @Schema(description = "Current size of the recording in bytes", example = "2359296")
+    private Long sizeBytes;
+}
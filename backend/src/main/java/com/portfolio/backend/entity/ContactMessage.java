@@ -15,7 +15,9 @@ import java.time.LocalDateTime;
 @Table(name = "contact_messages")
 public class ContactMessage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "contact_messages_id")
+    @TableGenerator(name = "contact_messages_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "contact_messages", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -0,0 +1,28 @@
+package com.portfolio.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of a public section, incremented in the transaction of every change to it
+ * Polled by each instance to invalidate its public cache after changes made on another one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "content_version")
+public class ContentVersion {
+    @Id
+    @Column(length = 50)
+    private String section;
+
+    @Column(nullable = false)
+    private long version;
+
+    private LocalDateTime updatedAt;
+}
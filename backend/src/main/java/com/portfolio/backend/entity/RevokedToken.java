@@ -0,0 +1,43 @@
+package com.portfolio.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revoked JWT, identified by its jti claim
+ * Rows are kept only until the token would have expired anyway
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "revoked_tokens_id")
+    @TableGenerator(name = "revoked_tokens_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "revoked_tokens", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(updatable = false)
+    private LocalDateTime revokedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.revokedAt == null) {
+            this.revokedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.portfolio.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fingerprint of the last sample dataset applied by a startup seeder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "seed_state")
+public class SeedState {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    private LocalDateTime appliedAt;
+
+    public SeedState(String name, String fingerprint) {
+        this.name = name;
+        this.fingerprint = fingerprint;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.appliedAt = LocalDateTime.now();
+    }
+}
@@ -24,7 +24,9 @@ import java.time.LocalDateTime;
 public class Translation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "translations_id")
+    @TableGenerator(name = "translations_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "translations", allocationSize = 50)
     private Long id;
 
     /**
@@ -22,7 +22,9 @@ import java.util.List;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
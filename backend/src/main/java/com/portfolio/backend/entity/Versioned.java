@@ -0,0 +1,12 @@
+package com.portfolio.backend.entity;
+
+/**
+ * Entity guarded by an optimistic lock version
+ * The version is the ETag of the admin responses and the value expected in If-Match.
+ */
+public interface Versioned {
+
+    Long getId();
+
+    Long getVersion();
+}
@@ -1,14 +1,17 @@
 package com.portfolio.backend.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -69,6 +72,36 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         }
 
+        /**
+         * Handle validation errors raised by the services, e.g. on patched DTOs (400 Bad Request)
+         */
+        @ExceptionHandler(ConstraintViolationException.class)
+        public ResponseEntity<ErrorResponse> handleConstraintViolationException(
+                        ConstraintViolationException ex,
+                        HttpServletRequest request) {
+
+                log.error("Validation error on {}: {}", request.getRequestURI(), ex.getMessage());
+
+                List<ErrorResponse.ValidationError> validationErrors = ex.getConstraintViolations()
+                                .stream()
+                                .map(violation -> ErrorResponse.ValidationError.builder()
+                                                .field(violation.getPropertyPath().toString())
+                                                .message(violation.getMessage())
+                                                .build())
+                                .collect(Collectors.toList());
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .message("Validation failed")
+                                .details("Please check the input fields.")
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .validationErrors(validationErrors)
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
         /**
          * Handle database integrity violations (400/409)
          */
@@ -90,6 +123,27 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         }
 
+        /**
+         * Handle invalid requests rejected by the services (400 Bad Request)
+         */
+        @ExceptionHandler(BadRequestException.class)
+        public ResponseEntity<ErrorResponse> handleBadRequestException(
+                        BadRequestException ex,
+                        HttpServletRequest request) {
+
+                log.warn("Bad request on {}: {}", request.getRequestURI(), ex.getMessage());
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .message("Bad Request")
+                                .details(ex.getMessage())
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
         /**
          * Handle resource not found (404 Not Found)
          */
@@ -111,6 +165,52 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
         }
 
+        /**
+         * Handle writes based on a stale version (412 Precondition Failed)
+         * Raised on an If-Match mismatch, or by Hibernate when the versioned UPDATE or
+         * DELETE matched no row because another writer got there first.
+         */
+        @ExceptionHandler({ PreconditionFailedException.class, ObjectOptimisticLockingFailureException.class })
+        public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+                        Exception ex,
+                        HttpServletRequest request) {
+
+                log.warn("Precondition failed on {}: {}", request.getRequestURI(), ex.getMessage());
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .status(HttpStatus.PRECONDITION_FAILED.value())
+                                .message("Precondition Failed")
+                                .details(ex instanceof PreconditionFailedException
+                                                ? ex.getMessage()
+                                                : "The resource was modified meanwhile. Reload it and try again.")
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+        }
+
+        /**
+         * Handle writes sent without If-Match (428 Precondition Required)
+         */
+        @ExceptionHandler(PreconditionRequiredException.class)
+        public ResponseEntity<ErrorResponse> handlePreconditionRequiredException(
+                        PreconditionRequiredException ex,
+                        HttpServletRequest request) {
+
+                log.warn("Precondition required on {}: {}", request.getRequestURI(), ex.getMessage());
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .status(HttpStatus.PRECONDITION_REQUIRED.value())
+                                .message("Precondition Required")
+                                .details(ex.getMessage())
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(errorResponse);
+        }
+
         /**
          * Handle unauthorized access (401 Unauthorized)
          */
@@ -153,6 +253,29 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
         }
 
+        /**
+         * Handle reads refused while the database is unavailable (503 Service Unavailable)
+         */
+        @ExceptionHandler(ServiceUnavailableException.class)
+        public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+                        ServiceUnavailableException ex,
+                        HttpServletRequest request) {
+
+                log.warn("Service unavailable on {}: {}", request.getRequestURI(), ex.getMessage());
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                                .message("Service Unavailable")
+                                .details(ex.getMessage())
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "5")
+                                .body(errorResponse);
+        }
+
         /**
          * Handle all other exceptions (500 Internal Server Error)
          */
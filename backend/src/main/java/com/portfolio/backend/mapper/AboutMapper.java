@@ -14,6 +14,7 @@ public class AboutMapper {
 
         return AboutDTO.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .name(entity.getName())
                 .title(entity.getTitle())
                 .description(entity.getDescription())
@@ -35,6 +36,15 @@ public class AboutMapper {
 
         About entity = new About();
         entity.setId(dto.getId());
+        updateEntity(dto, entity);
+
+        return entity;
+    }
+
+    /**
+     * Copy the editable fields of the DTO onto an entity, leaving its id and version
+     */
+    public void updateEntity(AboutDTO dto, About entity) {
         entity.setName(dto.getName());
         entity.setTitle(dto.getTitle());
         entity.setDescription(dto.getDescription());
@@ -46,7 +56,5 @@ public class AboutMapper {
         entity.setTwitterUrl(dto.getTwitterUrl());
         entity.setResumeUrl(dto.getResumeUrl());
         entity.setProfileImageUrl(dto.getProfileImageUrl());
-
-        return entity;
     }
 }
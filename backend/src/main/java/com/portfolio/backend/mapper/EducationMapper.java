@@ -17,6 +17,7 @@ public class EducationMapper {
 
         return EducationDTO.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .institution(entity.getInstitution())
                 .degree(entity.getDegree())
                 .fieldOfStudy(entity.getFieldOfStudy())
@@ -36,6 +37,15 @@ public class EducationMapper {
 
         Education entity = new Education();
         entity.setId(dto.getId());
+        updateEntity(dto, entity);
+
+        return entity;
+    }
+
+    /**
+     * Copy the editable fields of the DTO onto an entity, leaving its id and version
+     */
+    public void updateEntity(EducationDTO dto, Education entity) {
         entity.setInstitution(dto.getInstitution());
         entity.setDegree(dto.getDegree());
         entity.setFieldOfStudy(dto.getFieldOfStudy());
@@ -45,8 +55,6 @@ public class EducationMapper {
         entity.setDescription(dto.getDescription());
         entity.setGrade(dto.getGrade());
         entity.setDisplayOrder(dto.getDisplayOrder());
-
-        return entity;
     }
 
     public List<EducationDTO> toDTOList(List<Education> entities) {
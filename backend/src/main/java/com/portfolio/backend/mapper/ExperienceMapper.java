@@ -17,6 +17,7 @@ public class ExperienceMapper {
 
         return ExperienceDTO.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .company(entity.getCompany())
                 .position(entity.getPosition())
                 .location(entity.getLocation())
@@ -35,6 +36,15 @@ public class ExperienceMapper {
 
         Experience entity = new Experience();
         entity.setId(dto.getId());
+        updateEntity(dto, entity);
+
+        return entity;
+    }
+
+    /**
+     * Copy the editable fields of the DTO onto an entity, leaving its id and version
+     */
+    public void updateEntity(ExperienceDTO dto, Experience entity) {
         entity.setCompany(dto.getCompany());
         entity.setPosition(dto.getPosition());
         entity.setLocation(dto.getLocation());
@@ -43,8 +53,6 @@ public class ExperienceMapper {
         entity.setDescription(dto.getDescription());
         entity.setCurrent(dto.getCurrent());
         entity.setDisplayOrder(dto.getDisplayOrder());
-
-        return entity;
     }
 
     public List<ExperienceDTO> toDTOList(List<Experience> entities) {
@@ -17,6 +17,7 @@ public class InterestMapper {
 
         return InterestDTO.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .name(entity.getName())
                 .description(entity.getDescription())
                 .icon(entity.getIcon())
@@ -31,12 +32,19 @@ public class InterestMapper {
 
         Interest entity = new Interest();
         entity.setId(dto.getId());
+        updateEntity(dto, entity);
+
+        return entity;
+    }
+
+    /**
+     * Copy the editable fields of the DTO onto an entity, leaving its id and version
+     */
+    public void updateEntity(InterestDTO dto, Interest entity) {
         entity.setName(dto.getName());
         entity.setDescription(dto.getDescription());
         entity.setIcon(dto.getIcon());
         entity.setDisplayOrder(dto.getDisplayOrder());
-
-        return entity;
     }
 
     public List<InterestDTO> toDTOList(List<Interest> entities) {
@@ -17,6 +17,7 @@ public class LanguageMapper {
 
         return LanguageDTO.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .name(entity.getName())
                 .proficiency(entity.getProficiency())
                 .proficiencyPercentage(entity.getProficiencyPercentage())
@@ -31,12 +32,19 @@ public class LanguageMapper {
 
         Language entity = new Language();
         entity.setId(dto.getId());
+        updateEntity(dto, entity);
+
+        return entity;
+    }
+
+    /**
+     * Copy the editable fields of the DTO onto an entity, leaving its id and version
+     */
+    public void updateEntity(LanguageDTO dto, Language entity) {
         entity.setName(dto.getName());
         entity.setProficiency(dto.getProficiency());
         entity.setProficiencyPercentage(dto.getProficiencyPercentage());
         entity.setDisplayOrder(dto.getDisplayOrder());
-
-        return entity;
     }
 
     public List<LanguageDTO> toDTOList(List<Language> entities) {
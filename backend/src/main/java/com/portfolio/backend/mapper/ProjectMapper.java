@@ -4,6 +4,7 @@ import com.portfolio.backend.dto.ProjectDTO;
 import com.portfolio.backend.entity.Project;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,6 +18,7 @@ public class ProjectMapper {
 
         return ProjectDTO.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .title(entity.getTitle())
                 .description(entity.getDescription())
                 .imageUrl(entity.getImageUrl())
@@ -38,17 +40,28 @@ public class ProjectMapper {
 
         Project entity = new Project();
         entity.setId(dto.getId());
+        updateEntity(dto, entity);
+
+        return entity;
+    }
+
+    /**
+     * Copy the editable fields of the DTO onto an entity, leaving its id, version and timestamps
+     */
+    public void updateEntity(ProjectDTO dto, Project entity) {
         entity.setTitle(dto.getTitle());
         entity.setDescription(dto.getDescription());
         entity.setImageUrl(dto.getImageUrl());
         entity.setDemoUrl(dto.getDemoUrl());
         entity.setGithubUrl(dto.getGithubUrl());
-        entity.setTechnologies(dto.getTechnologies());
+        // Replacing the collection rewrites all its rows, so the loaded one is kept when unchanged
+        List<String> technologies = dto.getTechnologies() != null ? dto.getTechnologies() : List.of();
+        if (entity.getTechnologies() == null || !new ArrayList<>(entity.getTechnologies()).equals(technologies)) {
+            entity.setTechnologies(new ArrayList<>(technologies));
+        }
         entity.setCategory(dto.getCategory());
         entity.setFeatured(dto.getFeatured());
         entity.setDisplayOrder(dto.getDisplayOrder());
-
-        return entity;
     }
 
     public List<ProjectDTO> toDTOList(List<Project> entities) {
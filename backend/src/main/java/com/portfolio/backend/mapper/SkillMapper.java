@@ -17,6 +17,7 @@ public class SkillMapper {
 
         return SkillDTO.builder()
                 .id(entity.getId())
+                .version(entity.getVersion())
                 .name(entity.getName())
                 .category(entity.getCategory())
                 .proficiencyLevel(entity.getProficiencyLevel())
@@ -32,13 +33,20 @@ public class SkillMapper {
 
         Skill entity = new Skill();
         entity.setId(dto.getId());
+        updateEntity(dto, entity);
+
+        return entity;
+    }
+
+    /**
+     * Copy the editable fields of the DTO onto an entity, leaving its id and version
+     */
+    public void updateEntity(SkillDTO dto, Skill entity) {
         entity.setName(dto.getName());
         entity.setCategory(dto.getCategory());
         entity.setProficiencyLevel(dto.getProficiencyLevel());
         entity.setIconUrl(dto.getIconUrl());
         entity.setDisplayOrder(dto.getDisplayOrder());
-
-        return entity;
     }
 
     public List<SkillDTO> toDTOList(List<Skill> entities) {
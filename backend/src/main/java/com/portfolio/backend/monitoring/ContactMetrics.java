@@ -0,0 +1,30 @@
+package com.portfolio.backend.monitoring;
+
+import com.portfolio.backend.entity.MessageStatus;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Depth of the contact inbox: messages received and not yet read by the admin
+ * Counted in the database when metrics are scraped.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContactMetrics implements MeterBinder {
+
+    private final ContactMessageRepository contactMessageRepository;
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("contact.messages.unread", contactMessageRepository,
+                repository -> repository.countByStatus(MessageStatus.UNREAD))
+                .description("Contact messages waiting to be read")
+                .baseUnit("messages")
+                .register(registry);
+    }
+}
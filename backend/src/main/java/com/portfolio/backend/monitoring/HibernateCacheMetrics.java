@@ -0,0 +1,63 @@
+package com.portfolio.backend.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hit, miss and put counts of each Hibernate second-level cache region, and of the query cache
+ * Bound once the application is ready: the EntityManagerFactory is built in the
+ * background, and unwrapping it earlier would hold up the startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bind() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            counter("hibernate.cache.requests", region, "hit", regionStatistics, CacheRegionStatistics::getHitCount);
+            counter("hibernate.cache.requests", region, "miss", regionStatistics, CacheRegionStatistics::getMissCount);
+            counter("hibernate.cache.puts", region, null, regionStatistics, CacheRegionStatistics::getPutCount);
+        }
+        FunctionCounter.builder("hibernate.query.cache.requests", statistics, Statistics::getQueryCacheHitCount)
+                .description("Cacheable query executions answered by the query cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("hibernate.query.cache.requests", statistics, Statistics::getQueryCacheMissCount)
+                .description("Cacheable query executions answered by the query cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    private void counter(String name, String region, String result, CacheRegionStatistics statistics,
+            ToDoubleFunction<CacheRegionStatistics> count) {
+        FunctionCounter.Builder<CacheRegionStatistics> builder = FunctionCounter.builder(name, statistics, count)
+                .description("Second-level cache region lookups and puts")
+                .tag("region", region);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package com.portfolio.backend.monitoring;
+
+import com.portfolio.backend.util.TranslationHelper;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the response language to the http.server.requests metrics
+ * Only supported languages can come out of the Accept-Language parsing, so the
+ * tag stays low-cardinality.
+ */
+@Component
+public class LanguageTaggingObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        String language = TranslationHelper.extractLanguage(context.getCarrier().getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of("language", language));
+    }
+}
@@ -0,0 +1,145 @@
+package com.portfolio.backend.monitoring;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SQL activity of the current request, or of a block of code under test
+ * Filled in by SqlStatisticsDataSource for statements executed on the thread
+ * that started the statistics; other threads are not counted. Statistics
+ * started inside others, e.g. by SqlStatisticsFilter within capture, also
+ * count towards the enclosing ones.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics parent;
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    /**
+     * Executions per SQL string; a prepared statement run once per row of an
+     * earlier result shows up here as one string with a high count
+     */
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop the current statistics, the enclosing ones become current again
+     */
+    public static void stop() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null && statistics.parent != null) {
+            CURRENT.set(statistics.parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Run an action and return the SQL it executed on this thread, e.g. in a test:
+     * {@code SqlStatistics.capture(() -> mockMvc.perform(get("/api/v1/projects"))).assertStatementsAtMost(3)}
+     */
+    public static SqlStatistics capture(Action action) throws Exception {
+        SqlStatistics statistics = start();
+        try {
+            action.run();
+            return statistics;
+        } finally {
+            stop();
+        }
+    }
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+        if (parent != null) {
+            parent.recordStatement(sql, nanos);
+        }
+    }
+
+    void recordRows(long count) {
+        rows += count;
+        if (parent != null) {
+            parent.recordRows(count);
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * The SQL string executed the most times, or null if nothing was executed
+     */
+    public Map.Entry<String, Integer> mostRepeatedStatement() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    public SqlStatistics assertStatementsAtMost(int max) {
+        if (statements > max) {
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + statements
+                    + " were executed" + describeMostRepeated());
+        }
+        return this;
+    }
+
+    /**
+     * Fail when any single SQL string ran more than max times, the signature of an N+1 query
+     */
+    public SqlStatistics assertNoStatementRepeatedMoreThan(int max) {
+        Map.Entry<String, Integer> top = mostRepeatedStatement();
+        if (top != null && top.getValue() > max) {
+            throw new AssertionError("Expected no statement to run more than " + max + " times"
+                    + describeMostRepeated());
+        }
+        return this;
+    }
+
+    /**
+     * Value for the Server-Timing response header
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements, %d rows\"",
+                jdbcNanos / 1e6, statements, rows);
+    }
+
+    private String describeMostRepeated() {
+        Map.Entry<String, Integer> top = mostRepeatedStatement();
+        return top == null ? "" : " (most repeated, " + top.getValue() + " times: " + top.getKey() + ")";
+    }
+}
@@ -0,0 +1,27 @@
+package com.portfolio.backend.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource so that SQL activity can be counted per request
+ */
+@Configuration
+public class SqlStatisticsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatisticsDataSource)) {
+                    return new SqlStatisticsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
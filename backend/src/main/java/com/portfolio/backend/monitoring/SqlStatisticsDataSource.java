@@ -0,0 +1,167 @@
+package com.portfolio.backend.monitoring;
+
+import com.portfolio.backend.monitoring.jfr.SqlStatementEvent;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper feeding SqlStatistics
+ * Connections, statements and result sets are wrapped in JDK proxies that time
+ * each execute call and count the rows read or updated. When no statistics are
+ * active on the calling thread, only a SqlStatementEvent is emitted for JFR.
+ */
+public class SqlStatisticsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public SqlStatisticsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    /**
+     * Close the pool behind this wrapper, so that shutdown still releases connections
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlStatisticsDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, handler));
+    }
+
+    /**
+     * Call the wrapped JDBC object; equals and hashCode keep proxy identity
+     */
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatisticsDataSource.invoke(proxy, target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, String preparedSql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            SqlStatistics statistics = SqlStatistics.current();
+            String name = method.getName();
+            if (name.equals("getResultSet") && statistics != null) {
+                return wrapResultSet(SqlStatisticsDataSource.invoke(proxy, target, method, args), statistics);
+            }
+            if (!name.startsWith("execute")) {
+                return SqlStatisticsDataSource.invoke(proxy, target, method, args);
+            }
+
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            SqlStatementEvent event = new SqlStatementEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = SqlStatisticsDataSource.invoke(proxy, target, method, args);
+            } finally {
+                if (statistics != null) {
+                    statistics.recordStatement(sql, System.nanoTime() - start);
+                }
+                event.end();
+            }
+
+            long updated = updatedRows(result);
+            if (event.shouldCommit()) {
+                event.sql = sql;
+                event.updatedRows = updated;
+                event.commit();
+            }
+            if (statistics == null) {
+                return result;
+            }
+            if (updated > 0) {
+                statistics.recordRows(updated);
+            }
+            return wrapResultSet(result, statistics);
+        }
+
+        private static long updatedRows(Object result) {
+            if (result instanceof Integer updated) {
+                return Math.max(updated, 0);
+            }
+            if (result instanceof Long updated) {
+                return Math.max(updated, 0);
+            }
+            long total = 0;
+            if (result instanceof int[] batch) {
+                for (int updated : batch) {
+                    total += Math.max(updated, 0);
+                }
+            } else if (result instanceof long[] batch) {
+                for (long updated : batch) {
+                    total += Math.max(updated, 0);
+                }
+            }
+            return total;
+        }
+
+        private static Object wrapResultSet(Object result, SqlStatistics statistics) {
+            if (result instanceof ResultSet resultSet) {
+                return wrap(ResultSet.class, new ResultSetHandler(resultSet, statistics));
+            }
+            return result;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target, SqlStatistics statistics) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatisticsDataSource.invoke(proxy, target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                statistics.recordRows(1);
+            }
+            return result;
+        }
+    }
+}
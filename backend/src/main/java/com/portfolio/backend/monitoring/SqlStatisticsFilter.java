@@ -0,0 +1,125 @@
+package com.portfolio.backend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements, rows and JDBC time of each HTTP request
+ * The totals are recorded as metrics per route and, when enabled, returned in
+ * a Server-Timing header. A statement repeated more than the configured
+ * threshold within one request is logged as a likely N+1 query.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTiming;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatisticsFilter(MeterRegistry meterRegistry,
+            @Value("${monitoring.sql.server-timing:true}") boolean serverTiming,
+            @Value("${monitoring.sql.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.serverTiming = serverTiming;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.start();
+        ServerTimingResponse wrapped = serverTiming ? new ServerTimingResponse(response, statistics) : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            SqlStatistics.stop();
+            if (wrapped != null) {
+                wrapped.addServerTiming();
+            }
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .description("Rows read or updated per HTTP request")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder("http.server.requests.sql.time")
+                .description("JDBC execution time per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> repeated = statistics.mostRepeatedStatement();
+        if (repeated != null && repeated.getValue() > repeatedStatementThreshold) {
+            meterRegistry.counter("http.server.requests.sql.repeated", tags).increment();
+            log.warn("Possible N+1 query on {} {}: statement executed {} times: {}",
+                    request.getMethod(), uri, repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    /**
+     * Adds the Server-Timing header just before the response is committed,
+     * after the controller has run its queries
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatistics statistics;
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addServerTiming();
+        }
+
+        void addServerTiming() {
+            if (!added && !isCommitted()) {
+                added = true;
+                addHeader(SERVER_TIMING, statistics.toServerTiming());
+            }
+        }
+    }
+}
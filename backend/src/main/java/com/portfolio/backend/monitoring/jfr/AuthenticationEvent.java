@@ -0,0 +1,25 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Bearer token authentication done by JwtAuthFilter for one request
+ */
+@Name("com.portfolio.Authentication")
+@Label("Bearer Authentication")
+@Description("Token verification, revocation check and user lookup for one request")
+@Category({ "Portfolio", "Security" })
+@StackTrace(false)
+public class AuthenticationEvent extends jdk.jfr.Event {
+
+    @Label("Outcome")
+    @Description("authenticated, invalid, revoked or rejected")
+    public String outcome;
+
+    @Label("URI")
+    public String uri;
+}
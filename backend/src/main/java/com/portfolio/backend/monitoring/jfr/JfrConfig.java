@@ -0,0 +1,46 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import com.portfolio.backend.service.TranslationService;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Adds the ServiceCallEvent interceptor to the public methods of the service beans
+ * TranslationService is left out: it is called once per translated field and
+ * already emits its own TranslationLookupEvent.
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public static AbstractAdvisingBeanPostProcessor serviceCallEventPostProcessor() {
+        return new AbstractAdvisingBeanPostProcessor() {
+            {
+                ClassFilter services = ClassFilters.intersection(
+                        new AnnotationClassFilter(Service.class, true),
+                        type -> !TranslationService.class.isAssignableFrom(type));
+                MethodMatcher publicMethods = new StaticMethodMatcher() {
+                    @Override
+                    public boolean matches(Method method, Class<?> targetClass) {
+                        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+                    }
+                };
+                this.advisor = new DefaultPointcutAdvisor(new ComposablePointcut(services, publicMethods),
+                        new ServiceCallInterceptor());
+                setProxyTargetClass(true);
+            }
+        };
+    }
+}
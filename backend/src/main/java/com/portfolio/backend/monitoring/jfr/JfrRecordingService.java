@@ -0,0 +1,134 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import com.portfolio.backend.dto.RecordingStatusDTO;
+import com.portfolio.backend.exception.BadRequestException;
+import com.portfolio.backend.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * One on-demand Flight Recorder recording at a time
+ * The recording always stops by itself after a bounded duration and keeps at
+ * most a bounded amount of data on disk, so a forgotten recording cannot fill
+ * the disk or run forever.
+ */
+@Slf4j
+@Component
+public class JfrRecordingService {
+
+    private static final String RECORDING_NAME = "portfolio-on-demand";
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+
+    private Recording recording;
+    private String settings;
+
+    public JfrRecordingService(
+            @Value("${monitoring.jfr.max-duration:10m}") Duration maxDuration,
+            @Value("${monitoring.jfr.max-size:100MB}") DataSize maxSize) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Start a new recording, discarding the previous one
+     *
+     * @param duration time after which the recording stops, capped at the configured maximum
+     * @param settings JFR settings, "default" (about 1% overhead) or "profile" (method sampling every 10 ms)
+     */
+    public synchronized RecordingStatusDTO start(Duration duration, String settings) {
+        if (!SETTINGS.contains(settings)) {
+            throw new BadRequestException("Unknown JFR settings: " + settings + ", expected one of " + SETTINGS);
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new BadRequestException("Recording duration must be between 1 second and " + maxDuration);
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new BadRequestException("A recording is already running, stop it first");
+        }
+        close();
+
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings " + settings, e);
+        }
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(duration);
+        started.setMaxSize(maxSize.toBytes());
+        started.start();
+
+        recording = started;
+        this.settings = settings;
+        log.info("JFR recording started with {} settings for {}", settings, duration);
+        return status();
+    }
+
+    public synchronized RecordingStatusDTO stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new BadRequestException("No recording is running");
+        }
+        recording.stop();
+        log.info("JFR recording stopped after {} bytes", recording.getSize());
+        return status();
+    }
+
+    public synchronized RecordingStatusDTO status() {
+        if (recording == null) {
+            return RecordingStatusDTO.builder().state("NONE").build();
+        }
+        return RecordingStatusDTO.builder()
+                .state(recording.getState().name())
+                .settings(settings)
+                .startTime(recording.getStartTime())
+                .durationSeconds(recording.getDuration() != null ? recording.getDuration().toSeconds() : null)
+                .maxSizeBytes(recording.getMaxSize())
+                .sizeBytes(recording.getSize())
+                .build();
+    }
+
+    /**
+     * Dump the current or last recording to a temporary file
+     * A running recording keeps running; the returned stream deletes the file when closed.
+     */
+    public synchronized InputStream download() {
+        if (recording == null || recording.getState() == RecordingState.NEW) {
+            throw new ResourceNotFoundException("No recording to download");
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot dump JFR recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
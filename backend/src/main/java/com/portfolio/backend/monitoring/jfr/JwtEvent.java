@@ -0,0 +1,25 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Signing or verification of a JWT by JwtUtils
+ */
+@Name("com.portfolio.Jwt")
+@Label("JWT Operation")
+@Description("Signing of a new token or signature check and parsing of a received one")
+@Category({ "Portfolio", "Security" })
+@StackTrace(false)
+public class JwtEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("generate or verify")
+    public String operation;
+
+    @Label("Success")
+    public boolean success;
+}
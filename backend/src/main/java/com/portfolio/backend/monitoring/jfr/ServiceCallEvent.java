@@ -0,0 +1,43 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Call to a public method of the service layer, with the SQL work it caused
+ */
+@Name("com.portfolio.ServiceCall")
+@Label("Service Call")
+@Description("Call to a service method with the SQL statements and rows it caused")
+@Category({ "Portfolio", "Service" })
+@StackTrace(false)
+public class ServiceCallEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Entity Type")
+    @Description("Type of the returned DTO or of the elements of the returned collection")
+    public String entityType;
+
+    @Label("Result Size")
+    @Description("Number of elements returned, -1 when the result is not a collection")
+    public int resultSize;
+
+    @Label("SQL Statements")
+    @Description("Statements executed during the call, -1 outside of an HTTP request")
+    public int sqlStatements;
+
+    @Label("SQL Rows")
+    @Description("Rows read or updated during the call, -1 outside of an HTTP request")
+    public long sqlRows;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,62 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import com.portfolio.backend.monitoring.SqlStatistics;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.Collection;
+
+/**
+ * Emits a ServiceCallEvent around each service method
+ * The SQL counts are the difference of the request's SqlStatistics before and
+ * after the call, so they include the lazy loads triggered inside the service.
+ */
+class ServiceCallInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        SqlStatistics statistics = SqlStatistics.current();
+        int statementsBefore = statistics != null ? statistics.getStatements() : 0;
+        long rowsBefore = statistics != null ? statistics.getRows() : 0;
+        event.begin();
+        Object result = null;
+        boolean success = false;
+        try {
+            result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = AopUtils.getTargetClass(invocation.getThis()).getSimpleName();
+                event.method = invocation.getMethod().getName();
+                event.entityType = entityType(result);
+                event.resultSize = result instanceof Collection<?> collection ? collection.size() : -1;
+                event.sqlStatements = statistics != null ? statistics.getStatements() - statementsBefore : -1;
+                event.sqlRows = statistics != null ? statistics.getRows() - rowsBefore : -1;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Simple name of the returned DTO, or of the first element of a returned collection
+     */
+    private static String entityType(Object result) {
+        Object element = result instanceof Collection<?> collection && !collection.isEmpty()
+                ? collection.iterator().next()
+                : result;
+        if (element == null || element.getClass().getName().startsWith("java.")) {
+            return null;
+        }
+        String name = element.getClass().getSimpleName();
+        return name.endsWith("DTO") ? name.substring(0, name.length() - 3) : name;
+    }
+}
@@ -0,0 +1,26 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Execution of one JDBC statement
+ * Recorded from 1 ms by default to keep the volume of events low.
+ */
+@Name("com.portfolio.SqlStatement")
+@Label("SQL Statement")
+@Description("Execution of one JDBC statement, without reading its result set")
+@Category({ "Portfolio", "Persistence" })
+@Threshold("1 ms")
+public class SqlStatementEvent extends jdk.jfr.Event {
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Updated Rows")
+    @Description("Rows updated by the statement, 0 for queries")
+    public long updatedRows;
+}
@@ -0,0 +1,32 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Translation of a DTO or a list of DTOs by TranslationHelper
+ */
+@Name("com.portfolio.TranslationApply")
+@Label("Translation Apply")
+@Description("Translation of the fields of one DTO or of a list of DTOs")
+@Category({ "Portfolio", "Translation" })
+@StackTrace(false)
+public class TranslationApplyEvent extends jdk.jfr.Event {
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Language")
+    public String language;
+
+    @Label("Items")
+    @Description("Number of DTOs translated")
+    public int items;
+
+    @Label("Fields")
+    @Description("Number of fields looked up")
+    public int fields;
+}
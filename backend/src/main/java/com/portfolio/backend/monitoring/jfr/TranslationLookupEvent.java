@@ -0,0 +1,33 @@
+package com.portfolio.backend.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One per-field translation lookup done by TranslationService
+ */
+@Name("com.portfolio.TranslationLookup")
+@Label("Translation Lookup")
+@Description("Lookup of one translated field, with whether a translation existed")
+@Category({ "Portfolio", "Translation" })
+@StackTrace(false)
+public class TranslationLookupEvent extends jdk.jfr.Event {
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Entity Id")
+    public long entityId;
+
+    @Label("Field")
+    public String fieldName;
+
+    @Label("Language")
+    public String language;
+
+    @Label("Found")
+    public boolean found;
+}
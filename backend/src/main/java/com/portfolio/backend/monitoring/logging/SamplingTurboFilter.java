@@ -0,0 +1,113 @@
+package com.portfolio.backend.monitoring.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Logback filter letting through at most maxPerSecond events per message template
+ * Only applies to the configured loggers (or logger prefixes), typically ones
+ * that log once per request on error paths. Events are grouped by their format
+ * string, so the check does not format or allocate anything. The number of
+ * suppressed events is logged once the next second starts.
+ *
+ * <pre>
+ * &lt;turboFilter class="com.portfolio.backend.monitoring.logging.SamplingTurboFilter"&gt;
+ *     &lt;logger&gt;com.portfolio.backend.exception.GlobalExceptionHandler&lt;/logger&gt;
+ *     &lt;maxPerSecond&gt;5&lt;/maxPerSecond&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    /**
+     * Templates tracked at most; messages built by concatenation would otherwise grow the map
+     */
+    private static final int MAX_TEMPLATES = 1000;
+
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private int maxPerSecond = 10;
+
+    public void addLogger(String logger) {
+        loggers.add(logger);
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        // isXxxEnabled() checks come without a format, and disabled events are denied later anyway
+        if (format == null || level == null || level.levelInt < logger.getEffectiveLevel().levelInt
+                || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.get(format);
+        if (window == null) {
+            if (windows.size() >= MAX_TEMPLATES) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(format, f -> new Window(logger.getName()));
+        }
+        return window.tryAcquire(format) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean sampled(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final class Window {
+
+        private final String logger;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger suppressed = new AtomicInteger();
+        private volatile long second;
+
+        Window(String logger) {
+            this.logger = logger;
+        }
+
+        boolean tryAcquire(String format) {
+            long now = System.currentTimeMillis() / 1000;
+            // A thread that read the clock just before the window rolled must not roll it back
+            if (now > second) {
+                int dropped;
+                synchronized (this) {
+                    if (now <= second) {
+                        dropped = 0;
+                    } else {
+                        dropped = suppressed.getAndSet(0);
+                        count.set(0);
+                        second = now;
+                    }
+                }
+                if (dropped > 0) {
+                    LoggerFactory.getLogger(SamplingTurboFilter.class)
+                            .warn("Suppressed {} messages from {} like: {}", dropped, logger, format);
+                }
+            }
+            if (count.incrementAndGet() <= maxPerSecond) {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+    }
+}
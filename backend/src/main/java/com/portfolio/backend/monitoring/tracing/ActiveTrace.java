@@ -0,0 +1,118 @@
+package com.portfolio.backend.monitoring.tracing;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Trace being recorded on the current request thread
+ * Only touched by the thread that owns it, so it needs no synchronization.
+ */
+final class ActiveTrace {
+
+    /**
+     * Cap on the spans kept per trace, so an N+1 request cannot hold thousands of them
+     */
+    static final int MAX_SPANS = 256;
+
+    private static final Pattern TRACEPARENT = Pattern.compile("00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})");
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String flags;
+    private final Instant startTime = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final List<Span> spans = new ArrayList<>();
+    private final Deque<OpenSpan> open = new ArrayDeque<>();
+    private int droppedSpans;
+
+    private ActiveTrace(String traceId, String parentSpanId, String flags) {
+        this.traceId = traceId;
+        this.spanId = randomHex(8);
+        this.parentSpanId = parentSpanId;
+        this.flags = flags;
+    }
+
+    /**
+     * Continue the trace of a valid traceparent header, or start a new one
+     */
+    static ActiveTrace from(String traceparent) {
+        if (traceparent != null) {
+            var matcher = TRACEPARENT.matcher(traceparent.trim());
+            if (matcher.matches() && !matcher.group(1).equals(INVALID_TRACE_ID)
+                    && !matcher.group(2).equals(INVALID_SPAN_ID)) {
+                return new ActiveTrace(matcher.group(1), matcher.group(2), matcher.group(3));
+            }
+        }
+        return new ActiveTrace(randomHex(16), null, "01");
+    }
+
+    String traceId() {
+        return traceId;
+    }
+
+    /**
+     * traceparent value identifying this server's span of the trace
+     */
+    String traceparent() {
+        return "00-" + traceId + "-" + spanId + "-" + flags;
+    }
+
+    Tracer.Scope open(String kind, String name) {
+        OpenSpan span = new OpenSpan(kind, name, open.isEmpty() ? spanId : open.peek().id);
+        open.push(span);
+        return span;
+    }
+
+    Trace finish(String method, String uri, String route, int status) {
+        double durationMs = (System.nanoTime() - startNanos) / 1e6;
+        List<Span> sorted = new ArrayList<>(spans);
+        sorted.sort(Comparator.comparingDouble(Span::startMs));
+        return new Trace(traceId, spanId, parentSpanId, method, uri, route, status, startTime, durationMs,
+                droppedSpans, List.copyOf(sorted));
+    }
+
+    private static String randomHex(int bytes) {
+        byte[] random = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(random);
+        return HexFormat.of().formatHex(random);
+    }
+
+    private final class OpenSpan implements Tracer.Scope {
+
+        private final String kind;
+        private final String name;
+        private final String parentId;
+        private final String id = randomHex(8);
+        private final long start = System.nanoTime();
+
+        OpenSpan(String kind, String name, String parentId) {
+            this.kind = kind;
+            this.name = name;
+            this.parentId = parentId;
+        }
+
+        @Override
+        public void close() {
+            long end = System.nanoTime();
+            // Spans close in reverse order of opening; tolerate a missed close in between
+            while (!open.isEmpty() && open.pop() != this) {
+                droppedSpans++;
+            }
+            if (spans.size() >= MAX_SPANS) {
+                droppedSpans++;
+                return;
+            }
+            spans.add(new Span(id, parentId, kind, name, (start - startNanos) / 1e6, (end - start) / 1e6));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.portfolio.backend.monitoring.tracing;
+
+/**
+ * A finished span of a trace
+ *
+ * @param kind    layer the span belongs to: http, security, controller, service, repository,
+ *                translation or serialization
+ * @param startMs start of the span relative to the start of the trace
+ */
+public record Span(
+        String spanId,
+        String parentSpanId,
+        String kind,
+        String name,
+        double startMs,
+        double durationMs) {
+}
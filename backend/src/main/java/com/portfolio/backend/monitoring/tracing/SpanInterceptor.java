@@ -0,0 +1,58 @@
+package com.portfolio.backend.monitoring.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens a span named Type.method around each call of a traced bean
+ * Repositories are named after their interface rather than the Spring Data
+ * implementation class they all share.
+ */
+class SpanInterceptor implements MethodInterceptor {
+
+    private final String kind;
+    private final Map<Key, String> names = new ConcurrentHashMap<>();
+
+    SpanInterceptor(String kind) {
+        this.kind = kind;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!Tracer.isActive()) {
+            return invocation.proceed();
+        }
+        try (Tracer.Scope span = Tracer.span(kind, name(invocation))) {
+            return invocation.proceed();
+        }
+    }
+
+    private String name(MethodInvocation invocation) {
+        Class<?> type = invocation instanceof ProxyMethodInvocation proxied
+                ? proxied.getProxy().getClass()
+                : invocation.getThis().getClass();
+        return names.computeIfAbsent(new Key(type, invocation.getMethod()),
+                key -> typeName(key.type()) + "." + key.method().getName());
+    }
+
+    private static String typeName(Class<?> type) {
+        if (Proxy.isProxyClass(type)) {
+            for (Class<?> proxied : type.getInterfaces()) {
+                if (proxied.getName().startsWith("com.portfolio.")) {
+                    return proxied.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(type).getSimpleName();
+    }
+
+    private record Key(Class<?> type, Method method) {
+    }
+}
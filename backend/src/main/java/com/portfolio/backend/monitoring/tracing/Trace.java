@@ -0,0 +1,44 @@
+package com.portfolio.backend.monitoring.tracing;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A finished request trace with its spans ordered by start time
+ * The identifiers follow W3C Trace Context, so traces can later be exported to
+ * a collector without changing their ids.
+ *
+ * @param parentSpanId span id received in the traceparent header, or null when the trace started here
+ * @param droppedSpans spans not kept because the trace reached its span limit
+ */
+public record Trace(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String method,
+        String uri,
+        String route,
+        int status,
+        Instant startTime,
+        double durationMs,
+        int droppedSpans,
+        List<Span> spans) {
+
+    public Summary summary() {
+        return new Summary(traceId, method, uri, route, status, startTime, durationMs, spans.size() + droppedSpans);
+    }
+
+    /**
+     * A trace without its spans, for listings
+     */
+    public record Summary(
+            String traceId,
+            String method,
+            String uri,
+            String route,
+            int status,
+            Instant startTime,
+            double durationMs,
+            int spanCount) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.portfolio.backend.monitoring.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Finished traces kept in memory
+ * Recent traces go to a lock-free ring buffer that overwrites the oldest entry.
+ * The slowest traces since startup are kept apart so that they survive traffic;
+ * a trace faster than the slowest kept ones is rejected without locking.
+ */
+@Component
+public class TraceBuffer {
+
+    private final AtomicReferenceArray<Trace> recent;
+    private final AtomicLong written = new AtomicLong();
+
+    private final int slowestSize;
+    private final PriorityQueue<Trace> slowest = new PriorityQueue<>(Comparator.comparingDouble(Trace::durationMs));
+    private volatile double slowestThresholdMs;
+
+    public TraceBuffer(
+            @Value("${monitoring.tracing.recent-size:256}") int recentSize,
+            @Value("${monitoring.tracing.slowest-size:20}") int slowestSize) {
+        this.recent = new AtomicReferenceArray<>(recentSize);
+        this.slowestSize = slowestSize;
+    }
+
+    public void add(Trace trace) {
+        long index = written.getAndIncrement();
+        recent.set((int) (index % recent.length()), trace);
+
+        if (trace.durationMs() > slowestThresholdMs) {
+            synchronized (slowest) {
+                slowest.offer(trace);
+                if (slowest.size() > slowestSize) {
+                    slowest.poll();
+                }
+                if (slowest.size() == slowestSize) {
+                    slowestThresholdMs = slowest.peek().durationMs();
+                }
+            }
+        }
+    }
+
+    /**
+     * Recent traces, newest first
+     */
+    public List<Trace> recent() {
+        long end = written.get();
+        long start = Math.max(0, end - recent.length());
+        List<Trace> traces = new ArrayList<>((int) (end - start));
+        for (long index = end - 1; index >= start; index--) {
+            Trace trace = recent.get((int) (index % recent.length()));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * Slowest traces since startup, slowest first
+     */
+    public List<Trace> slowest() {
+        List<Trace> traces;
+        synchronized (slowest) {
+            traces = new ArrayList<>(slowest);
+        }
+        traces.sort(Comparator.comparingDouble(Trace::durationMs).reversed());
+        return traces;
+    }
+
+    public Optional<Trace> find(String traceId) {
+        return slowest().stream()
+                .filter(trace -> trace.traceId().equals(traceId))
+                .findFirst()
+                .or(() -> recent().stream().filter(trace -> trace.traceId().equals(traceId)).findFirst());
+    }
+}
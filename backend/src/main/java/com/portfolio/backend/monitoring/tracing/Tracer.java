@@ -0,0 +1,57 @@
+package com.portfolio.backend.monitoring.tracing;
+
+/**
+ * Span API for the trace of the current request thread
+ * Outside of a traced request, span() returns a no-op scope and costs a
+ * ThreadLocal lookup.
+ *
+ * <pre>
+ * try (Tracer.Scope span = Tracer.span("translation", "Project")) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class Tracer {
+
+    private static final ThreadLocal<ActiveTrace> CURRENT = new ThreadLocal<>();
+    private static final Scope NOOP = () -> {
+    };
+
+    private Tracer() {
+    }
+
+    /**
+     * An open span, closed by try-with-resources
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static Scope span(String kind, String name) {
+        ActiveTrace trace = CURRENT.get();
+        return trace != null ? trace.open(kind, name) : NOOP;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Id of the current trace, or null outside of a traced request
+     */
+    public static String currentTraceId() {
+        ActiveTrace trace = CURRENT.get();
+        return trace != null ? trace.traceId() : null;
+    }
+
+    static ActiveTrace start(String traceparent) {
+        ActiveTrace trace = ActiveTrace.from(traceparent);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+}
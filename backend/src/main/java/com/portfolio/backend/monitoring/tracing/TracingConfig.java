@@ -0,0 +1,98 @@
+package com.portfolio.backend.monitoring.tracing;
+
+import com.portfolio.backend.service.TranslationService;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Adds controller, service, repository and serialization spans to the request traces
+ * TranslationService is left out: its per-field lookups show up as repository
+ * spans under the translation span of TranslationHelper.
+ */
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    private static final MethodMatcher PUBLIC_METHODS = new StaticMethodMatcher() {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+    };
+
+    private final boolean enabled;
+
+    public TracingConfig(@Value("${monitoring.tracing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Bean
+    public static AbstractAdvisingBeanPostProcessor controllerSpanPostProcessor(
+            @Value("${monitoring.tracing.enabled:true}") boolean enabled) {
+        return spans(enabled, "controller", new AnnotationClassFilter(RestController.class, true), true);
+    }
+
+    @Bean
+    public static AbstractAdvisingBeanPostProcessor serviceSpanPostProcessor(
+            @Value("${monitoring.tracing.enabled:true}") boolean enabled) {
+        return spans(enabled, "service", ClassFilters.intersection(
+                new AnnotationClassFilter(Service.class, true),
+                type -> !TranslationService.class.isAssignableFrom(type)), true);
+    }
+
+    /**
+     * Spring Data repositories are already proxies whose last interceptors do not
+     * call further advice, so the span advisor goes before the existing ones
+     */
+    @Bean
+    public static AbstractAdvisingBeanPostProcessor repositorySpanPostProcessor(
+            @Value("${monitoring.tracing.enabled:true}") boolean enabled) {
+        AbstractAdvisingBeanPostProcessor postProcessor = spans(enabled, "repository",
+                Repository.class::isAssignableFrom, false);
+        postProcessor.setBeforeExistingAdvisors(true);
+        return postProcessor;
+    }
+
+    private static AbstractAdvisingBeanPostProcessor spans(boolean enabled, String kind, ClassFilter classFilter,
+            boolean proxyTargetClass) {
+        return new AbstractAdvisingBeanPostProcessor() {
+            {
+                this.advisor = new DefaultPointcutAdvisor(new ComposablePointcut(classFilter, PUBLIC_METHODS),
+                        new SpanInterceptor(kind));
+                setProxyTargetClass(proxyTargetClass);
+            }
+
+            @Override
+            protected boolean isEligible(Class<?> targetClass) {
+                return enabled && super.isEligible(targetClass);
+            }
+        };
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (enabled) {
+            converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                    ? new TracingJackson2HttpMessageConverter(jackson.getObjectMapper())
+                    : converter);
+        }
+    }
+}
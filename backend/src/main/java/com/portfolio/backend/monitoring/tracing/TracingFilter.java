@@ -0,0 +1,65 @@
+package com.portfolio.backend.monitoring.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records a trace for each HTTP request
+ * A valid W3C traceparent header is continued, otherwise a new trace is started.
+ * The trace id is returned in a traceresponse header and put in the logging MDC.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class TracingFilter extends OncePerRequestFilter {
+
+    static final String TRACEPARENT = "traceparent";
+    static final String TRACERESPONSE = "traceresponse";
+
+    private final TraceBuffer traceBuffer;
+    private final boolean enabled;
+
+    public TracingFilter(TraceBuffer traceBuffer, @Value("${monitoring.tracing.enabled:true}") boolean enabled) {
+        this.traceBuffer = traceBuffer;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Metric scrapes and the trace endpoints themselves would only crowd out the buffer
+     */
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !enabled || path.startsWith("/actuator") || path.startsWith("/api/v1/admin/traces");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        ActiveTrace trace = Tracer.start(request.getHeader(TRACEPARENT));
+        response.setHeader(TRACERESPONSE, trace.traceparent());
+        MDC.put("traceId", trace.traceId());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Tracer.stop();
+            MDC.remove("traceId");
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            traceBuffer.add(trace.finish(request.getMethod(), request.getRequestURI(),
+                    pattern != null ? pattern.toString() : null, response.getStatus()));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.backend.monitoring.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter recording JSON writing as a serialization span
+ * The span includes writing to the response, so it grows with slow clients too.
+ */
+class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (Tracer.Scope span = Tracer.span("serialization", object.getClass().getSimpleName())) {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.backend.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Reactive public read API (WebFlux + R2DBC)
+ * Serves the same /api/v1/* contracts as PortfolioController without JDBC or
+ * JPA. Admin, authentication and contact endpoints stay on the servlet
+ * application (PortfolioBackendApplication).
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class })
+public class PortfolioReactiveApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(PortfolioReactiveApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive")
+                .run(args);
+    }
+}
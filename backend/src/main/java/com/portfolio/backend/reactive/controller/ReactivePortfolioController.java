@@ -0,0 +1,83 @@
+package com.portfolio.backend.reactive.controller;
+
+import com.portfolio.backend.dto.*;
+import com.portfolio.backend.reactive.service.ReactivePortfolioService;
+import com.portfolio.backend.util.TranslationHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive Public Portfolio Controller
+ * Same endpoints and responses as PortfolioController, served by WebFlux
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ReactivePortfolioController {
+
+    private final ReactivePortfolioService portfolioService;
+
+    @GetMapping("/about")
+    public Mono<ResponseEntity<AboutDTO>> getAbout(
+            @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
+        String lang = TranslationHelper.extractLanguage(language);
+        log.debug("GET /api/about - Fetching about section [lang={}]", lang);
+        return portfolioService.getAbout(lang)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/projects")
+    public Mono<ResponseEntity<List<ProjectDTO>>> getProjects(
+            @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
+        String lang = TranslationHelper.extractLanguage(language);
+        log.debug("GET /api/projects - Fetching all projects [lang={}]", lang);
+        return portfolioService.getAllProjects(lang).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/skills")
+    public Mono<ResponseEntity<List<SkillDTO>>> getSkills(
+            @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
+        String lang = TranslationHelper.extractLanguage(language);
+        log.debug("GET /api/skills - Fetching all skills [lang={}]", lang);
+        return portfolioService.getAllSkills(lang).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/experiences")
+    public Mono<ResponseEntity<List<ExperienceDTO>>> getExperiences(
+            @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
+        String lang = TranslationHelper.extractLanguage(language);
+        log.debug("GET /api/experiences - Fetching all experiences [lang={}]", lang);
+        return portfolioService.getAllExperiences(lang).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/education")
+    public Mono<ResponseEntity<List<EducationDTO>>> getEducation(
+            @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
+        String lang = TranslationHelper.extractLanguage(language);
+        log.debug("GET /api/education - Fetching all education [lang={}]", lang);
+        return portfolioService.getAllEducation(lang).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/languages")
+    public Mono<ResponseEntity<List<LanguageDTO>>> getLanguages(
+            @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
+        String lang = TranslationHelper.extractLanguage(language);
+        log.debug("GET /api/languages - Fetching all languages [lang={}]", lang);
+        return portfolioService.getAllLanguages(lang).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/interests")
+    public Mono<ResponseEntity<List<InterestDTO>>> getInterests(
+            @RequestHeader(value = "Accept-Language", defaultValue = "fr") String language) {
+        String lang = TranslationHelper.extractLanguage(language);
+        log.debug("GET /api/interests - Fetching all interests [lang={}]", lang);
+        return portfolioService.getAllInterests(lang).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,173 @@
+package com.portfolio.backend.reactive.repository;
+
+import com.portfolio.backend.dto.*;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking reads of the public portfolio sections
+ * Rows are mapped straight to DTOs; the tables are the ones generated by the
+ * JPA entities of the servlet application. Sections are sorted like the
+ * ordered queries of PortfolioService, so both stacks list them alike, and
+ * carry the same version as the servlet responses.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactivePortfolioRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<AboutDTO> findAbout() {
+        return databaseClient.sql("SELECT id, version, name, title, description, email, phone, location, "
+                + "linkedin_url, github_url, twitter_url, resume_url, profile_image_url FROM about_sections "
+                + "ORDER BY id LIMIT 1")
+                .map(row -> AboutDTO.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .name(row.get("name", String.class))
+                        .title(row.get("title", String.class))
+                        .description(row.get("description", String.class))
+                        .email(row.get("email", String.class))
+                        .phone(row.get("phone", String.class))
+                        .location(row.get("location", String.class))
+                        .linkedinUrl(row.get("linkedin_url", String.class))
+                        .githubUrl(row.get("github_url", String.class))
+                        .twitterUrl(row.get("twitter_url", String.class))
+                        .resumeUrl(row.get("resume_url", String.class))
+                        .profileImageUrl(row.get("profile_image_url", String.class))
+                        .build())
+                .one();
+    }
+
+    /**
+     * Projects and their technologies, read with two concurrent queries
+     */
+    public Flux<ProjectDTO> findAllProjects() {
+        Mono<List<ProjectDTO>> projects = databaseClient.sql("SELECT id, version, title, description, image_url, "
+                + "demo_url, github_url, category, featured, display_order, created_at, updated_at FROM projects "
+                + "ORDER BY display_order, id")
+                .map(this::toProject)
+                .all()
+                .collectList();
+
+        Mono<Map<Long, Collection<String>>> technologies = databaseClient
+                .sql("SELECT project_id, technology FROM project_technologies")
+                .map(row -> Map.entry(row.get("project_id", Long.class), row.get("technology", String.class)))
+                .all()
+                .collectMultimap(Map.Entry::getKey, Map.Entry::getValue);
+
+        return Mono.zip(projects, technologies)
+                .flatMapMany(result -> {
+                    result.getT1().forEach(project -> project.setTechnologies(
+                            new ArrayList<>(result.getT2().getOrDefault(project.getId(), List.of()))));
+                    return Flux.fromIterable(result.getT1());
+                });
+    }
+
+    public Flux<SkillDTO> findAllSkills() {
+        return databaseClient.sql("SELECT id, version, name, category, proficiency_level, icon_url, display_order "
+                + "FROM skills ORDER BY category, display_order, id")
+                .map(row -> SkillDTO.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .name(row.get("name", String.class))
+                        .category(row.get("category", String.class))
+                        .proficiencyLevel(row.get("proficiency_level", Integer.class))
+                        .iconUrl(row.get("icon_url", String.class))
+                        .displayOrder(row.get("display_order", Integer.class))
+                        .build())
+                .all();
+    }
+
+    public Flux<ExperienceDTO> findAllExperiences() {
+        return databaseClient.sql("SELECT id, version, company, position, location, start_date, end_date, "
+                + "description, current, display_order FROM experiences ORDER BY display_order, id")
+                .map(row -> ExperienceDTO.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .company(row.get("company", String.class))
+                        .position(row.get("position", String.class))
+                        .location(row.get("location", String.class))
+                        .startDate(row.get("start_date", String.class))
+                        .endDate(row.get("end_date", String.class))
+                        .description(row.get("description", String.class))
+                        .current(row.get("current", Boolean.class))
+                        .displayOrder(row.get("display_order", Integer.class))
+                        .build())
+                .all();
+    }
+
+    public Flux<EducationDTO> findAllEducation() {
+        return databaseClient.sql("SELECT id, version, institution, degree, field_of_study, location, start_date, "
+                + "end_date, description, grade, display_order FROM educations ORDER BY display_order, id")
+                .map(row -> EducationDTO.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .institution(row.get("institution", String.class))
+                        .degree(row.get("degree", String.class))
+                        .fieldOfStudy(row.get("field_of_study", String.class))
+                        .location(row.get("location", String.class))
+                        .startDate(row.get("start_date", String.class))
+                        .endDate(row.get("end_date", String.class))
+                        .description(row.get("description", String.class))
+                        .grade(row.get("grade", String.class))
+                        .displayOrder(row.get("display_order", Integer.class))
+                        .build())
+                .all();
+    }
+
+    public Flux<LanguageDTO> findAllLanguages() {
+        return databaseClient.sql("SELECT id, version, name, proficiency, proficiency_percentage, display_order "
+                + "FROM languages ORDER BY display_order, id")
+                .map(row -> LanguageDTO.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .name(row.get("name", String.class))
+                        .proficiency(row.get("proficiency", String.class))
+                        .proficiencyPercentage(row.get("proficiency_percentage", Integer.class))
+                        .displayOrder(row.get("display_order", Integer.class))
+                        .build())
+                .all();
+    }
+
+    public Flux<InterestDTO> findAllInterests() {
+        return databaseClient.sql("SELECT id, version, name, description, icon, display_order FROM interests "
+                + "ORDER BY display_order, id")
+                .map(row -> InterestDTO.builder()
+                        .id(row.get("id", Long.class))
+                        .version(row.get("version", Long.class))
+                        .name(row.get("name", String.class))
+                        .description(row.get("description", String.class))
+                        .icon(row.get("icon", String.class))
+                        .displayOrder(row.get("display_order", Integer.class))
+                        .build())
+                .all();
+    }
+
+    private ProjectDTO toProject(Readable row) {
+        return ProjectDTO.builder()
+                .id(row.get("id", Long.class))
+                .version(row.get("version", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .imageUrl(row.get("image_url", String.class))
+                .demoUrl(row.get("demo_url", String.class))
+                .githubUrl(row.get("github_url", String.class))
+                .category(row.get("category", String.class))
+                .featured(row.get("featured", Boolean.class))
+                .displayOrder(row.get("display_order", Integer.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
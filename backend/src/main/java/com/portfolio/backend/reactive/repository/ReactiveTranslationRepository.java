@@ -0,0 +1,45 @@
+package com.portfolio.backend.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of TranslationRepository for the public API
+ * Loads every translation of an entity type in one query instead of one
+ * query per translated field.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTranslationRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Find all translations of an entity type in a specific language
+     *
+     * @return Translated values by entity id, then by field name
+     */
+    public Mono<Map<Long, Map<String, String>>> findByEntityTypeAndLanguage(String entityType, String language) {
+        return databaseClient.sql("SELECT entity_id, field_name, value FROM translations "
+                + "WHERE entity_type = :entityType AND language = :language")
+                .bind("entityType", entityType)
+                .bind("language", language)
+                .map(row -> new TranslationRow(
+                        row.get("entity_id", Long.class),
+                        row.get("field_name", String.class),
+                        row.get("value", String.class)))
+                .all()
+                .filter(translation -> translation.value() != null)
+                .collect(HashMap::new, (result, translation) -> result
+                        .computeIfAbsent(translation.entityId(), id -> new HashMap<>())
+                        .put(translation.fieldName(), translation.value()));
+    }
+
+    private record TranslationRow(Long entityId, String fieldName, String value) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.portfolio.backend.reactive.service;
+
+import com.portfolio.backend.dto.*;
+import com.portfolio.backend.reactive.repository.ReactivePortfolioRepository;
+import com.portfolio.backend.reactive.repository.ReactiveTranslationRepository;
+import com.portfolio.backend.util.TranslationHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reactive service for the public portfolio sections
+ * Each section is read together with its translations, with both queries
+ * running concurrently.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactivePortfolioService {
+
+    private final ReactivePortfolioRepository portfolioRepository;
+    private final ReactiveTranslationRepository translationRepository;
+
+    public Mono<AboutDTO> getAbout(String language) {
+        return translate(portfolioRepository.findAbout().flux(), "About", language, AboutDTO::getId)
+                .flatMap(abouts -> Mono.justOrEmpty(abouts.stream().findFirst()));
+    }
+
+    public Mono<List<ProjectDTO>> getAllProjects(String language) {
+        return translate(portfolioRepository.findAllProjects(), "Project", language, ProjectDTO::getId);
+    }
+
+    public Mono<List<SkillDTO>> getAllSkills(String language) {
+        return translate(portfolioRepository.findAllSkills(), "Skill", language, SkillDTO::getId);
+    }
+
+    public Mono<List<ExperienceDTO>> getAllExperiences(String language) {
+        return translate(portfolioRepository.findAllExperiences(), "Experience", language, ExperienceDTO::getId);
+    }
+
+    public Mono<List<EducationDTO>> getAllEducation(String language) {
+        return translate(portfolioRepository.findAllEducation(), "Education", language, EducationDTO::getId);
+    }
+
+    public Mono<List<LanguageDTO>> getAllLanguages(String language) {
+        return translate(portfolioRepository.findAllLanguages(), "Language", language, LanguageDTO::getId);
+    }
+
+    public Mono<List<InterestDTO>> getAllInterests(String language) {
+        return translate(portfolioRepository.findAllInterests(), "Interest", language, InterestDTO::getId);
+    }
+
+    /**
+     * Collect a section and apply its translations
+     * French is the source language, so no translation query is issued for it.
+     */
+    private <T> Mono<List<T>> translate(Flux<T> dtos, String entityType, String language, Function<T, Long> idOf) {
+        if ("fr".equalsIgnoreCase(language)) {
+            return dtos.collectList();
+        }
+
+        return Mono.zip(dtos.collectList(), translationRepository.findByEntityTypeAndLanguage(entityType, language))
+                .map(result -> {
+                    Map<Long, Map<String, String>> translations = result.getT2();
+                    result.getT1().forEach(dto -> TranslationHelper.applyTranslations(dto, translations.get(idOf.apply(dto))));
+                    log.debug("Applied {} translations to {} {} [lang={}]",
+                            translations.size(), result.getT1().size(), entityType, language);
+                    return result.getT1();
+                });
+    }
+}
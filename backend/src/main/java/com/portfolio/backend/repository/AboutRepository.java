@@ -1,9 +1,20 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.About;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface AboutRepository extends JpaRepository<About, Long> {
+
+    /**
+     * The About section, from the query and second-level caches
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<About> findFirstByOrderByIdAsc();
 }
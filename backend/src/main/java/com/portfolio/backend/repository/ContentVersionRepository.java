@@ -0,0 +1,37 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.entity.ContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+
+    /**
+     * Increment the versions of the given sections in a single statement
+     *
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE ContentVersion v SET v.version = v.version + 1, v.updatedAt = :now WHERE v.section IN :sections")
+    int increment(@Param("sections") Collection<String> sections, @Param("now") LocalDateTime now);
+
+    /**
+     * Current versions of the given sections, read as values rather than managed entities
+     */
+    @Query("SELECT v.section AS section, v.version AS version FROM ContentVersion v WHERE v.section IN :sections")
+    List<SectionVersion> findVersions(@Param("sections") Collection<String> sections);
+
+    interface SectionVersion {
+        String getSection();
+
+        long getVersion();
+    }
+}
@@ -1,9 +1,20 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Experience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
+
+    /**
+     * All experiences in display order, from the query and second-level caches
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Experience> findAllByOrderByDisplayOrderAscIdAsc();
 }
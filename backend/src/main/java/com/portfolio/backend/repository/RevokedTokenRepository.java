@@ -0,0 +1,29 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Find all revocations that are still relevant (token not yet expired)
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    boolean existsByJti(String jti);
+
+    /**
+     * Delete revocations of tokens that have expired
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
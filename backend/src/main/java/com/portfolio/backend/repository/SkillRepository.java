@@ -1,7 +1,10 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Skill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,10 @@ import java.util.List;
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill> findByCategory(String category);
+
+    /**
+     * All skills by category and display order, from the query and second-level caches
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Skill> findAllByOrderByCategoryAscDisplayOrderAscIdAsc();
 }
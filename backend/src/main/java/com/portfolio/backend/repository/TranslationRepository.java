@@ -27,6 +27,11 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
      */
     List<Translation> findByEntityTypeAndEntityId(String entityType, Long entityId);
 
+    /**
+     * Find all translations in a specific language (all entities)
+     */
+    List<Translation> findByLanguage(String language);
+
     /**
      * Delete all translations for a specific entity
      */
@@ -0,0 +1,93 @@
+package com.portfolio.backend.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the latency of the protected work
+ * A slow average (the baseline) and a fast average of response times are kept.
+ * While the fast average stays within tolerance times the baseline, the limit
+ * grows by about its square root per update. When it rises above that, the
+ * limit shrinks in proportion. Failures cut the limit by 10%. Updates are skipped
+ * while less than half the limit is in use, since they say nothing about capacity.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_SMOOTHING = 0.01;
+    private static final double SHORT_SMOOTHING = 0.1;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+    private double shortRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * Take a slot, or return false when the limit is reached
+     * Every successful call must be followed by exactly one onSuccess or onFailure.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(rttNanos, inFlightBefore);
+    }
+
+    public void onFailure() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightBefore) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_SMOOTHING;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_SMOOTHING;
+        // Under a sustained backlog, keep the baseline from drifting up to the queued latency
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inFlightBefore < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        double smoothed = limit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+}
@@ -0,0 +1,158 @@
+package com.portfolio.backend.resilience;
+
+import com.portfolio.backend.cache.PublicContentCache;
+import com.portfolio.backend.cache.PublicSection;
+import com.portfolio.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.sql.DataSource;
+import java.net.ConnectException;
+import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker around the public read path
+ * While closed, every successful read is recorded in the PortfolioSnapshotStore.
+ * A connection failure or timeout opens the circuit: reads are then answered
+ * from the snapshot without touching the database, and a background probe
+ * checks for a valid connection every probe interval. When the probe succeeds
+ * the circuit closes and the public cache is invalidated, so snapshot
+ * responses cached while open are replaced by fresh ones.
+ */
+@Slf4j
+@Component
+public class DatabaseCircuitBreaker {
+
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
+
+    private final DataSource dataSource;
+    private final PortfolioSnapshotStore snapshotStore;
+    private final PublicContentCache publicContentCache;
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final Duration probeInterval;
+    private final AtomicBoolean open = new AtomicBoolean();
+    private final Map<PublicSection, Counter> fallbacks = new EnumMap<>(PublicSection.class);
+    private volatile ScheduledFuture<?> probe;
+
+    public DatabaseCircuitBreaker(DataSource dataSource, PortfolioSnapshotStore snapshotStore,
+            PublicContentCache publicContentCache, TaskScheduler taskScheduler, MeterRegistry meterRegistry,
+            @Value("${resilience.database.enabled:true}") boolean enabled,
+            @Value("${resilience.database.probe-interval:5s}") Duration probeInterval) {
+        this.dataSource = dataSource;
+        this.snapshotStore = snapshotStore;
+        this.publicContentCache = publicContentCache;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.probeInterval = probeInterval;
+        for (PublicSection section : PublicSection.values()) {
+            fallbacks.put(section, Counter.builder("db.circuit.fallbacks")
+                    .description("Public reads answered from the disk snapshot")
+                    .tag("section", section.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("db.circuit.open", open, state -> state.get() ? 1 : 0)
+                .description("1 while public reads are served from the snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Result of the loader, or the section's snapshot while the database is unavailable
+     *
+     * @throws ServiceUnavailableException if the database is unavailable and there is no snapshot yet
+     */
+    public <T> T read(PublicSection section, String language, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        if (open.get()) {
+            return fallback(section, language);
+        }
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            if (!isConnectionFailure(e)) {
+                throw e;
+            }
+            trip(e);
+            return fallback(section, language);
+        }
+        snapshotStore.record(section, language, value);
+        return value;
+    }
+
+    private <T> T fallback(PublicSection section, String language) {
+        if (!snapshotStore.contains(section, language)) {
+            throw new ServiceUnavailableException("Database unavailable and no snapshot of " + section + " yet");
+        }
+        fallbacks.get(section).increment();
+        return snapshotStore.get(section, language);
+    }
+
+    private void trip(RuntimeException cause) {
+        if (open.compareAndSet(false, true)) {
+            log.warn("Database unavailable, serving public reads from the snapshot: {}", cause.getMessage());
+            probe = taskScheduler.scheduleWithFixedDelay(this::probe,
+                    Instant.now().plus(probeInterval), probeInterval);
+        }
+    }
+
+    private void probe() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(PROBE_TIMEOUT_SECONDS)) {
+                return;
+            }
+        } catch (SQLException e) {
+            log.debug("Database probe failed: {}", e.getMessage());
+            return;
+        }
+        if (open.compareAndSet(true, false)) {
+            probe.cancel(false);
+            log.info("Database available again, public reads resume");
+            publicContentCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Whether a failure means the database could not be reached, as opposed to an error in the query
+     */
+    static boolean isConnectionFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof JDBCConnectionException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof SQLTimeoutException
+                    || cause instanceof ConnectException) {
+                return true;
+            }
+            // SQLSTATE class 08: connection exception
+            if (cause instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
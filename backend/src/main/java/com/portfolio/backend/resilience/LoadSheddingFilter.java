@@ -0,0 +1,141 @@
+package com.portfolio.backend.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Adaptive concurrency limit on the public API
+ * Requests to the public portfolio and contact routes take a slot from an
+ * AdaptiveConcurrencyLimiter; when none is free they are rejected at once with
+ * 503 and Retry-After instead of queueing for a Tomcat thread or a database
+ * connection. The limit never exceeds the Tomcat pool minus a reserved slice,
+ * so admin, auth and health requests, which are not limited, still get threads.
+ * With virtual threads Tomcat no longer bounds concurrency and the ceiling is
+ * the Hikari pool size instead. Runs after Spring Security, so the 503 carries
+ * the CORS headers and browsers see it rather than a CORS error.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 2)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final List<String> PUBLIC_SECTIONS = List.of(
+            "about", "projects", "skills", "experiences", "education", "languages", "interests", "contact");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String retryAfterSeconds;
+    private final Counter shed;
+
+    public LoadSheddingFilter(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+            @Value("${resilience.concurrency.enabled:true}") boolean enabled,
+            @Value("${resilience.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${resilience.concurrency.min-limit:4}") int minLimit,
+            @Value("${server.tomcat.threads.max:200}") int tomcatThreads,
+            @Value("${resilience.concurrency.reserved:20}") int reserved,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${resilience.concurrency.tolerance:2.0}") double tolerance,
+            @Value("${resilience.concurrency.retry-after:1s}") Duration retryAfter) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        int maxLimit = virtualThreads ? poolSize : tomcatThreads - reserved;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, Math.max(minLimit, maxLimit), tolerance);
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.shed = Counter.builder("http.server.requests.shed")
+                .description("Public requests rejected by the concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current concurrency limit of the public API")
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Public API requests in progress")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !isPublic(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            shed.increment();
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (failed) {
+                limiter.onFailure();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Shedding {} {} at concurrency limit {}", request.getMethod(), request.getRequestURI(),
+                limiter.getLimit());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Service Unavailable")
+                .details("Too many concurrent requests, retry later")
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Routes of PortfolioController and ContactController, including the legacy /api/ paths
+     */
+    static boolean isPublic(String path) {
+        String rest = path.startsWith("/api/v1/") ? path.substring(8)
+                : path.startsWith("/api/") ? path.substring(5)
+                : null;
+        if (rest == null) {
+            return false;
+        }
+        for (String section : PUBLIC_SECTIONS) {
+            if (rest.startsWith(section)
+                    && (rest.length() == section.length() || rest.charAt(section.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
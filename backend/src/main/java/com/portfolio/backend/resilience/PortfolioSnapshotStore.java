@@ -0,0 +1,281 @@
+package com.portfolio.backend.resilience;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.portfolio.backend.cache.PublicSection;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Last public response of each section and language, serialized and kept on local disk
+ * Every change produces a new version of a single binary file holding all the
+ * responses as pre-serialized JSON: a header, an index of (section, language,
+ * offset, length) and the JSON bodies. The file is memory-mapped after each
+ * write and at startup, so the entries are slices of the mapping that can be
+ * sent as they are. The previous version is kept for responses still being sent
+ * from it; older ones are deleted.
+ */
+@Slf4j
+@Component
+public class PortfolioSnapshotStore {
+
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final int FORMAT = 1;
+    private static final String PREFIX = "portfolio-";
+    private static final String SUFFIX = ".snapshot";
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    private volatile Map<Key, Entry> entries = Map.of();
+    private long version;
+
+    public PortfolioSnapshotStore(ObjectMapper objectMapper,
+            @Value("${resilience.snapshot.dir:snapshot}") String directory) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory).toAbsolutePath();
+    }
+
+    /**
+     * A serialized response and its position in the snapshot file
+     */
+    public record Entry(ByteBuffer json, Path file, long offset) {
+
+        /**
+         * Whether the section had no content, e.g. an About section not yet created
+         */
+        public boolean isNull() {
+            return json.equals(ByteBuffer.wrap(NULL));
+        }
+
+        public int length() {
+            return json.remaining();
+        }
+    }
+
+    private record Key(PublicSection section, String language) {
+    }
+
+    @PostConstruct
+    synchronized void load() {
+        List<Path> versions = versions();
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            Path file = versions.get(i);
+            try {
+                entries = map(file);
+                version = version(file);
+                log.info("Mapped portfolio snapshot {} with {} responses", file.getFileName(), entries.size());
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Ignoring unreadable portfolio snapshot {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Keep a response as the section's snapshot in that language
+     */
+    public void record(PublicSection section, String language, Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            log.warn("Could not serialize {} snapshot: {}", section, e.getMessage());
+            return;
+        }
+        Key key = new Key(section, language);
+        if (unchanged(entries.get(key), json)) {
+            return;
+        }
+        synchronized (this) {
+            if (unchanged(entries.get(key), json)) {
+                return;
+            }
+            Map<Key, ByteBuffer> contents = new LinkedHashMap<>();
+            entries.forEach((existing, entry) -> contents.put(existing, entry.json()));
+            contents.put(key, ByteBuffer.wrap(json));
+            write(contents);
+        }
+    }
+
+    public boolean contains(PublicSection section, String language) {
+        return entries.containsKey(new Key(section, language));
+    }
+
+    /**
+     * The section's serialized snapshot in that language, or null if there is none
+     */
+    public Entry entry(PublicSection section, String language) {
+        return entries.get(new Key(section, language));
+    }
+
+    /**
+     * A fresh copy of the section's snapshot in that language, or null if there is none
+     */
+    public <T> T get(PublicSection section, String language) {
+        Entry entry = entry(section, language);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(new ByteBufferBackedInputStream(entry.json().duplicate()), javaType(section));
+        } catch (IOException e) {
+            log.warn("Could not read {} snapshot: {}", section, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean unchanged(Entry entry, byte[] json) {
+        return entry != null && entry.json().equals(ByteBuffer.wrap(json));
+    }
+
+    private JavaType javaType(PublicSection section) {
+        return section.isList()
+                ? objectMapper.getTypeFactory().constructCollectionType(List.class, section.getDtoType())
+                : objectMapper.getTypeFactory().constructType(section.getDtoType());
+    }
+
+    private void write(Map<Key, ByteBuffer> contents) {
+        Path file = directory.resolve(PREFIX + (version + 1) + SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, PREFIX, ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(index(contents)));
+                for (ByteBuffer json : contents.values()) {
+                    ByteBuffer source = json.duplicate();
+                    while (source.hasRemaining()) {
+                        channel.write(source);
+                    }
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            entries = map(file);
+            version++;
+        } catch (IOException e) {
+            log.warn("Could not write portfolio snapshot {}: {}", file, e.getMessage());
+            return;
+        }
+        deleteOlderThan(version - 1);
+    }
+
+    /**
+     * Header and index; offsets are from the start of the file
+     */
+    private byte[] index(Map<Key, ByteBuffer> contents) throws IOException {
+        List<byte[]> names = new ArrayList<>();
+        int indexSize = 16;
+        for (Key key : contents.keySet()) {
+            byte[] section = key.section().name().getBytes(StandardCharsets.US_ASCII);
+            byte[] language = key.language().getBytes(StandardCharsets.US_ASCII);
+            names.add(section);
+            names.add(language);
+            indexSize += 2 + section.length + 2 + language.length + 8 + 4;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(indexSize);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT);
+        out.writeInt(contents.size());
+        out.writeInt(indexSize);
+        long offset = indexSize;
+        Iterator<byte[]> name = names.iterator();
+        for (ByteBuffer json : contents.values()) {
+            for (int i = 0; i < 2; i++) {
+                byte[] value = name.next();
+                out.writeShort(value.length);
+                out.write(value);
+            }
+            out.writeLong(offset);
+            out.writeInt(json.remaining());
+            offset += json.remaining();
+        }
+        return bytes.toByteArray();
+    }
+
+    private Map<Key, Entry> map(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.getInt() != MAGIC || mapped.getInt() != FORMAT) {
+            throw new IOException("not a portfolio snapshot of format " + FORMAT);
+        }
+        int count = mapped.getInt();
+        mapped.getInt(); // index size
+        Map<Key, Entry> mappedEntries = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            PublicSection section = PublicSection.valueOf(readString(mapped));
+            String language = readString(mapped);
+            long offset = mapped.getLong();
+            int length = mapped.getInt();
+            ByteBuffer json = mapped.slice((int) offset, length).asReadOnlyBuffer();
+            mappedEntries.put(new Key(section, language), new Entry(json, file, offset));
+        }
+        return Map.copyOf(mappedEntries);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getShort()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.US_ASCII);
+    }
+
+    private List<Path> versions() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> version(file) >= 0)
+                    .sorted(Comparator.comparingLong(PortfolioSnapshotStore::version))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Could not list portfolio snapshots in {}: {}", directory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void deleteOlderThan(long keep) {
+        for (Path file : versions()) {
+            if (version(file) < keep) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.debug("Could not delete old portfolio snapshot {}: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Version of a snapshot file from its name, or -1 if it is not one
+     */
+    private static long version(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
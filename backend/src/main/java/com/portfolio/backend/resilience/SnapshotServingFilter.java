@@ -0,0 +1,120 @@
+package com.portfolio.backend.resilience;
+
+import com.portfolio.backend.cache.PublicSection;
+import com.portfolio.backend.util.TranslationHelper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Answers public GETs from the mapped portfolio snapshot until the application is ready
+ * JPA repositories are bootstrapped in the background, so Tomcat accepts requests
+ * while Hibernate is still starting. Until ApplicationReadyEvent, sections found
+ * in the snapshot are sent directly from the mapped file, with Tomcat's sendfile
+ * when the connector supports it; anything else waits for the normal path.
+ * Runs after Spring Security so CORS headers are applied as usual.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class SnapshotServingFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/api/v1/";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final PortfolioSnapshotStore snapshotStore;
+    private final Counter served;
+    private volatile boolean serving;
+
+    public SnapshotServingFilter(PortfolioSnapshotStore snapshotStore, MeterRegistry meterRegistry,
+            @Value("${resilience.snapshot.serve-on-startup:true}") boolean serveOnStartup) {
+        this.snapshotStore = snapshotStore;
+        this.serving = serveOnStartup;
+        this.served = Counter.builder("snapshot.startup.responses")
+                .description("Public requests answered from the snapshot before the application was ready")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (serving) {
+            serving = false;
+            log.info("Application ready, {} public requests were served from the snapshot", (long) served.count());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !serving || !HttpMethod.GET.matches(request.getMethod()) || section(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        PublicSection section = section(request.getRequestURI());
+        String language = TranslationHelper.extractLanguage(request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+        PortfolioSnapshotStore.Entry entry = snapshotStore.entry(section, language);
+        if (entry == null || entry.isNull()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        served.increment();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(entry.length());
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, entry.file().toString());
+            request.setAttribute(SENDFILE_START, entry.offset());
+            request.setAttribute(SENDFILE_END, entry.offset() + entry.length());
+            return;
+        }
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        ByteBuffer json = entry.json().duplicate();
+        while (json.hasRemaining()) {
+            channel.write(json);
+        }
+    }
+
+    /**
+     * Section of a PortfolioController route, or null for any other path
+     */
+    private static PublicSection section(String path) {
+        if (!path.startsWith(PREFIX)) {
+            return null;
+        }
+        String name = path.substring(PREFIX.length());
+        for (PublicSection section : PublicSection.values()) {
+            if (section.name().equalsIgnoreCase(name)) {
+                return section;
+            }
+        }
+        return null;
+    }
+}
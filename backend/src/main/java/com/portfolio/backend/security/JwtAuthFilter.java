@@ -1,7 +1,13 @@
 package com.portfolio.backend.security;
 
+import com.portfolio.backend.monitoring.jfr.AuthenticationEvent;
+import com.portfolio.backend.monitoring.tracing.Tracer;
 import com.portfolio.backend.security.JwtUtils;
 import com.portfolio.backend.security.UserDetailsServiceImpl;
+import com.portfolio.backend.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +29,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -39,25 +47,59 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        try {
-            username = jwtUtils.extractUsername(jwt);
+        AuthenticationEvent event = new AuthenticationEvent();
+        event.begin();
+        String outcome = "invalid";
+        try (Tracer.Scope span = Tracer.span("security", "JwtAuthFilter")) {
+            Claims claims = verify(jwt);
+            username = claims.getSubject();
+            outcome = "rejected";
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-                if (jwtUtils.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (tokenRevocationService.isRevoked(claims.getId())) {
+                    outcome = "revoked";
+                } else {
+                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+
+                    if (jwtUtils.isTokenValid(claims, userDetails)) {
+                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                                userDetails,
+                                null,
+                                userDetails.getAuthorities());
+                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authToken);
+                        outcome = "authenticated";
+                    }
                 }
             }
         } catch (Exception e) {
             // Token is invalid
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.uri = request.getRequestURI();
+            event.commit();
+        }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Signature check and claims parsing, timed by outcome
+     */
+    private Claims verify(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            Claims claims = jwtUtils.extractAllClaims(jwt);
+            outcome = "valid";
+            return claims;
+        } finally {
+            sample.stop(Timer.builder("jwt.verification")
+                    .description("JWT signature check and claims parsing")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
 }
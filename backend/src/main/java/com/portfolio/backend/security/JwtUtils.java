@@ -1,5 +1,6 @@
 package com.portfolio.backend.security;
 
+import com.portfolio.backend.monitoring.jfr.JwtEvent;
 import io.jsonwebtoken.*;
 
 import io.jsonwebtoken.security.Keys;
@@ -12,6 +13,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
@@ -32,12 +34,24 @@ public class JwtUtils {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Parse and verify a token, returning all of its claims
+     */
+    public Claims extractAllClaims(String token) {
+        JwtEvent event = new JwtEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            success = true;
+            return claims;
+        } finally {
+            commit(event, "verify", success);
+        }
     }
 
     private Key getSigningKey() {
@@ -53,8 +67,22 @@ public class JwtUtils {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        JwtEvent event = new JwtEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            String token = buildToken(extraClaims, userDetails);
+            success = true;
+            return token;
+        } finally {
+            commit(event, "generate", success);
+        }
+    }
+
+    private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return Jwts.builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
@@ -67,6 +95,23 @@ public class JwtUtils {
         return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
     }
 
+    /**
+     * Validate already parsed claims, avoiding a second signature check
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
+    }
+
+    private static void commit(JwtEvent event, String operation, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.success = success;
+            event.commit();
+        }
+    }
+
     private boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
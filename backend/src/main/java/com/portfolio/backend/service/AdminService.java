@@ -1,5 +1,8 @@
 package com.portfolio.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.portfolio.backend.cache.PublicContentChangedEvent;
+import com.portfolio.backend.cache.PublicSection;
 import com.portfolio.backend.dto.*;
 import com.portfolio.backend.entity.*;
 import com.portfolio.backend.exception.ResourceNotFoundException;
@@ -7,11 +10,16 @@ import com.portfolio.backend.mapper.*;
 import com.portfolio.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Service for admin operations
@@ -43,6 +51,13 @@ public class AdminService {
     private final InterestMapper interestMapper;
     private final ContactMessageMapper contactMessageMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final BatchWriter batchWriter;
+    private final DisplayOrderWriter displayOrderWriter;
+    private final MergePatcher mergePatcher;
+    private final VersionGuard versionGuard;
+    private final ProjectWriter projectWriter;
+
     // ==================== PROJECTS ====================
 
     /**
@@ -56,25 +71,53 @@ public class AdminService {
     }
 
     /**
-     * Save or update a project
+     * Create a project
      */
-    public ProjectDTO saveProject(ProjectDTO projectDTO) {
-        log.info("Admin: Saving project: {}", projectDTO.getTitle());
+    public ProjectDTO createProject(ProjectDTO projectDTO) {
+        log.info("Admin: Creating project: {}", projectDTO.getTitle());
         Project project = projectMapper.toEntity(projectDTO);
+        project.setId(null);
         Project saved = projectRepository.save(project);
-        log.info("Admin: Project saved with ID: {}", saved.getId());
+        log.info("Admin: Project created with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.PROJECTS));
         return projectMapper.toDTO(saved);
     }
 
     /**
-     * Delete a project
+     * Update a project at the version given in If-Match
+     * Projects are not cached, so a given version is checked by the UPDATE itself
+     * rather than by reading the project first; "*" reads it and writes any version.
+     */
+    public ProjectDTO updateProject(Long id, ProjectDTO projectDTO, String ifMatch) {
+        log.info("Admin: Updating project {}: {}", id, projectDTO.getTitle());
+        Long expected = versionGuard.expectedVersion(ifMatch, "Project");
+        ProjectDTO updated;
+        if (expected != null) {
+            updated = projectWriter.update(id, expected, projectDTO);
+        } else {
+            Project project = findForWrite(projectRepository, id, "Project", ifMatch);
+            projectMapper.updateEntity(projectDTO, project);
+            // The UPDATE only matches the row at the version read, so a concurrent write gets 412
+            projectRepository.flush();
+            updated = projectMapper.toDTO(project);
+        }
+        log.info("Admin: Project {} saved at version {}", id, updated.getVersion());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.PROJECTS));
+        return updated;
+    }
+
+    /**
+     * Delete a project at the version given in If-Match, without reading it first
      */
-    public void deleteProject(Long id) {
+    public void deleteProject(Long id, String ifMatch) {
         log.info("Admin: Deleting project with ID: {}", id);
-        if (!projectRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Project not found with ID: " + id);
+        Long expected = versionGuard.expectedVersion(ifMatch, "Project");
+        if (expected != null) {
+            projectWriter.delete(id, expected);
+        } else {
+            projectRepository.delete(findForWrite(projectRepository, id, "Project", ifMatch));
         }
-        projectRepository.deleteById(id);
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.PROJECTS));
         log.info("Admin: Project deleted successfully");
     }
 
@@ -91,25 +134,38 @@ public class AdminService {
     }
 
     /**
-     * Save or update a skill
+     * Create a skill
      */
-    public SkillDTO saveSkill(SkillDTO skillDTO) {
-        log.info("Admin: Saving skill: {}", skillDTO.getName());
+    public SkillDTO createSkill(SkillDTO skillDTO) {
+        log.info("Admin: Creating skill: {}", skillDTO.getName());
         Skill skill = skillMapper.toEntity(skillDTO);
+        skill.setId(null);
         Skill saved = skillRepository.save(skill);
-        log.info("Admin: Skill saved with ID: {}", saved.getId());
+        log.info("Admin: Skill created with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.SKILLS));
         return skillMapper.toDTO(saved);
     }
 
     /**
-     * Delete a skill
+     * Update a skill read at the version given in If-Match
      */
-    public void deleteSkill(Long id) {
+    public SkillDTO updateSkill(Long id, SkillDTO skillDTO, String ifMatch) {
+        log.info("Admin: Updating skill {}: {}", id, skillDTO.getName());
+        Skill skill = findForWrite(skillRepository, id, "Skill", ifMatch);
+        skillMapper.updateEntity(skillDTO, skill);
+        skillRepository.flush();
+        log.info("Admin: Skill {} saved at version {}", id, skill.getVersion());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.SKILLS));
+        return skillMapper.toDTO(skill);
+    }
+
+    /**
+     * Delete a skill read at the version given in If-Match
+     */
+    public void deleteSkill(Long id, String ifMatch) {
         log.info("Admin: Deleting skill with ID: {}", id);
-        if (!skillRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Skill not found with ID: " + id);
-        }
-        skillRepository.deleteById(id);
+        skillRepository.delete(findForWrite(skillRepository, id, "Skill", ifMatch));
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.SKILLS));
         log.info("Admin: Skill deleted successfully");
     }
 
@@ -126,25 +182,39 @@ public class AdminService {
     }
 
     /**
-     * Save or update an experience
+     * Create an experience
      */
-    public ExperienceDTO saveExperience(ExperienceDTO experienceDTO) {
-        log.info("Admin: Saving experience: {} at {}", experienceDTO.getPosition(), experienceDTO.getCompany());
+    public ExperienceDTO createExperience(ExperienceDTO experienceDTO) {
+        log.info("Admin: Creating experience: {} at {}", experienceDTO.getPosition(), experienceDTO.getCompany());
         Experience experience = experienceMapper.toEntity(experienceDTO);
+        experience.setId(null);
         Experience saved = experienceRepository.save(experience);
-        log.info("Admin: Experience saved with ID: {}", saved.getId());
+        log.info("Admin: Experience created with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.EXPERIENCES));
         return experienceMapper.toDTO(saved);
     }
 
     /**
-     * Delete an experience
+     * Update an experience read at the version given in If-Match
      */
-    public void deleteExperience(Long id) {
+    public ExperienceDTO updateExperience(Long id, ExperienceDTO experienceDTO, String ifMatch) {
+        log.info("Admin: Updating experience {}: {} at {}", id, experienceDTO.getPosition(),
+                experienceDTO.getCompany());
+        Experience experience = findForWrite(experienceRepository, id, "Experience", ifMatch);
+        experienceMapper.updateEntity(experienceDTO, experience);
+        experienceRepository.flush();
+        log.info("Admin: Experience {} saved at version {}", id, experience.getVersion());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.EXPERIENCES));
+        return experienceMapper.toDTO(experience);
+    }
+
+    /**
+     * Delete an experience read at the version given in If-Match
+     */
+    public void deleteExperience(Long id, String ifMatch) {
         log.info("Admin: Deleting experience with ID: {}", id);
-        if (!experienceRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Experience not found with ID: " + id);
-        }
-        experienceRepository.deleteById(id);
+        experienceRepository.delete(findForWrite(experienceRepository, id, "Experience", ifMatch));
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.EXPERIENCES));
         log.info("Admin: Experience deleted successfully");
     }
 
@@ -156,9 +226,7 @@ public class AdminService {
     @Transactional(readOnly = true)
     public AboutDTO getAbout() {
         log.debug("Admin: Fetching About section");
-        About about = aboutRepository.findAll().stream()
-                .findFirst()
-                .orElse(null);
+        About about = aboutRepository.findFirstByOrderByIdAsc().orElse(null);
 
         if (about == null) {
             log.warn("Admin: No About section found");
@@ -170,27 +238,29 @@ public class AdminService {
 
     /**
      * Save or update About section
-     * Ensures only one About record exists
+     * Ensures only one About record exists. The existing one comes from the query and
+     * second-level caches and is updated at the version given in If-Match.
      */
-    public AboutDTO saveAbout(AboutDTO aboutDTO) {
+    public AboutDTO saveAbout(AboutDTO aboutDTO, String ifMatch) {
         log.info("Admin: Saving About section for: {}", aboutDTO.getName());
 
-        // Check if About already exists
-        About existing = aboutRepository.findAll().stream().findFirst().orElse(null);
+        About about = aboutRepository.findFirstByOrderByIdAsc().orElse(null);
 
-        About about = aboutMapper.toEntity(aboutDTO);
-
-        // If exists, update the existing record
-        if (existing != null) {
-            about.setId(existing.getId());
-            log.info("Admin: Updating existing About section with ID: {}", existing.getId());
+        if (about != null) {
+            versionGuard.check(ifMatch, about, "About section");
+            log.info("Admin: Updating existing About section with ID: {}", about.getId());
+            aboutMapper.updateEntity(aboutDTO, about);
+            aboutRepository.flush();
         } else {
             log.info("Admin: Creating new About section");
+            about = aboutMapper.toEntity(aboutDTO);
+            about.setId(null);
+            about = aboutRepository.save(about);
         }
 
-        About saved = aboutRepository.save(about);
         log.info("Admin: About section saved successfully");
-        return aboutMapper.toDTO(saved);
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.ABOUT));
+        return aboutMapper.toDTO(about);
     }
 
     // ==================== EDUCATION ====================
@@ -206,25 +276,38 @@ public class AdminService {
     }
 
     /**
-     * Save or update an education entry
+     * Create an education entry
      */
-    public EducationDTO saveEducation(EducationDTO educationDTO) {
-        log.info("Admin: Saving education: {} at {}", educationDTO.getDegree(), educationDTO.getInstitution());
+    public EducationDTO createEducation(EducationDTO educationDTO) {
+        log.info("Admin: Creating education: {} at {}", educationDTO.getDegree(), educationDTO.getInstitution());
         Education education = educationMapper.toEntity(educationDTO);
+        education.setId(null);
         Education saved = educationRepository.save(education);
-        log.info("Admin: Education saved with ID: {}", saved.getId());
+        log.info("Admin: Education created with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.EDUCATION));
         return educationMapper.toDTO(saved);
     }
 
     /**
-     * Delete an education entry
+     * Update an education entry read at the version given in If-Match
+     */
+    public EducationDTO updateEducation(Long id, EducationDTO educationDTO, String ifMatch) {
+        log.info("Admin: Updating education {}: {} at {}", id, educationDTO.getDegree(), educationDTO.getInstitution());
+        Education education = findForWrite(educationRepository, id, "Education", ifMatch);
+        educationMapper.updateEntity(educationDTO, education);
+        educationRepository.flush();
+        log.info("Admin: Education {} saved at version {}", id, education.getVersion());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.EDUCATION));
+        return educationMapper.toDTO(education);
+    }
+
+    /**
+     * Delete an education entry read at the version given in If-Match
      */
-    public void deleteEducation(Long id) {
+    public void deleteEducation(Long id, String ifMatch) {
         log.info("Admin: Deleting education with ID: {}", id);
-        if (!educationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Education not found with ID: " + id);
-        }
-        educationRepository.deleteById(id);
+        educationRepository.delete(findForWrite(educationRepository, id, "Education", ifMatch));
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.EDUCATION));
         log.info("Admin: Education deleted successfully");
     }
 
@@ -241,25 +324,38 @@ public class AdminService {
     }
 
     /**
-     * Save or update a language
+     * Create a language
      */
-    public LanguageDTO saveLanguage(LanguageDTO languageDTO) {
-        log.info("Admin: Saving language: {}", languageDTO.getName());
+    public LanguageDTO createLanguage(LanguageDTO languageDTO) {
+        log.info("Admin: Creating language: {}", languageDTO.getName());
         Language language = languageMapper.toEntity(languageDTO);
+        language.setId(null);
         Language saved = languageRepository.save(language);
-        log.info("Admin: Language saved with ID: {}", saved.getId());
+        log.info("Admin: Language created with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.LANGUAGES));
         return languageMapper.toDTO(saved);
     }
 
     /**
-     * Delete a language
+     * Update a language read at the version given in If-Match
      */
-    public void deleteLanguage(Long id) {
+    public LanguageDTO updateLanguage(Long id, LanguageDTO languageDTO, String ifMatch) {
+        log.info("Admin: Updating language {}: {}", id, languageDTO.getName());
+        Language language = findForWrite(languageRepository, id, "Language", ifMatch);
+        languageMapper.updateEntity(languageDTO, language);
+        languageRepository.flush();
+        log.info("Admin: Language {} saved at version {}", id, language.getVersion());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.LANGUAGES));
+        return languageMapper.toDTO(language);
+    }
+
+    /**
+     * Delete a language read at the version given in If-Match
+     */
+    public void deleteLanguage(Long id, String ifMatch) {
         log.info("Admin: Deleting language with ID: {}", id);
-        if (!languageRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Language not found with ID: " + id);
-        }
-        languageRepository.deleteById(id);
+        languageRepository.delete(findForWrite(languageRepository, id, "Language", ifMatch));
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.LANGUAGES));
         log.info("Admin: Language deleted successfully");
     }
 
@@ -276,28 +372,257 @@ public class AdminService {
     }
 
     /**
-     * Save or update an interest
+     * Create an interest
      */
-    public InterestDTO saveInterest(InterestDTO interestDTO) {
-        log.info("Admin: Saving interest: {}", interestDTO.getName());
+    public InterestDTO createInterest(InterestDTO interestDTO) {
+        log.info("Admin: Creating interest: {}", interestDTO.getName());
         Interest interest = interestMapper.toEntity(interestDTO);
+        interest.setId(null);
         Interest saved = interestRepository.save(interest);
-        log.info("Admin: Interest saved with ID: {}", saved.getId());
+        log.info("Admin: Interest created with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.INTERESTS));
         return interestMapper.toDTO(saved);
     }
 
     /**
-     * Delete an interest
+     * Update an interest read at the version given in If-Match
+     */
+    public InterestDTO updateInterest(Long id, InterestDTO interestDTO, String ifMatch) {
+        log.info("Admin: Updating interest {}: {}", id, interestDTO.getName());
+        Interest interest = findForWrite(interestRepository, id, "Interest", ifMatch);
+        interestMapper.updateEntity(interestDTO, interest);
+        interestRepository.flush();
+        log.info("Admin: Interest {} saved at version {}", id, interest.getVersion());
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.INTERESTS));
+        return interestMapper.toDTO(interest);
+    }
+
+    /**
+     * Delete an interest read at the version given in If-Match
      */
-    public void deleteInterest(Long id) {
+    public void deleteInterest(Long id, String ifMatch) {
         log.info("Admin: Deleting interest with ID: {}", id);
-        if (!interestRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Interest not found with ID: " + id);
-        }
-        interestRepository.deleteById(id);
+        interestRepository.delete(findForWrite(interestRepository, id, "Interest", ifMatch));
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.INTERESTS));
         log.info("Admin: Interest deleted successfully");
     }
 
+    // ==================== BATCH WRITES ====================
+    // BatchWriter manages the transactions itself, so these run outside the class-level one
+
+    /**
+     * Create or update several projects; items with an id are updates
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResultDTO<ProjectDTO> saveProjects(List<ProjectDTO> projects, BatchMode mode) {
+        return batchWriter.write(projects, mode, new BatchWriter.Target<>(PublicSection.PROJECTS, projectRepository,
+                ProjectDTO::getId, ProjectDTO::getVersion, projectMapper::toEntity, projectMapper::updateEntity,
+                projectMapper::toDTO));
+    }
+
+    /**
+     * Create or update several skills; items with an id are updates
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResultDTO<SkillDTO> saveSkills(List<SkillDTO> skills, BatchMode mode) {
+        return batchWriter.write(skills, mode, new BatchWriter.Target<>(PublicSection.SKILLS, skillRepository,
+                SkillDTO::getId, SkillDTO::getVersion, skillMapper::toEntity, skillMapper::updateEntity,
+                skillMapper::toDTO));
+    }
+
+    /**
+     * Create or update several experiences; items with an id are updates
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResultDTO<ExperienceDTO> saveExperiences(List<ExperienceDTO> experiences, BatchMode mode) {
+        return batchWriter.write(experiences, mode, new BatchWriter.Target<>(PublicSection.EXPERIENCES,
+                experienceRepository, ExperienceDTO::getId, ExperienceDTO::getVersion, experienceMapper::toEntity,
+                experienceMapper::updateEntity, experienceMapper::toDTO));
+    }
+
+    /**
+     * Create or update several education entries; items with an id are updates
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResultDTO<EducationDTO> saveEducations(List<EducationDTO> educations, BatchMode mode) {
+        return batchWriter.write(educations, mode, new BatchWriter.Target<>(PublicSection.EDUCATION,
+                educationRepository, EducationDTO::getId, EducationDTO::getVersion, educationMapper::toEntity,
+                educationMapper::updateEntity, educationMapper::toDTO));
+    }
+
+    /**
+     * Create or update several languages; items with an id are updates
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResultDTO<LanguageDTO> saveLanguages(List<LanguageDTO> languages, BatchMode mode) {
+        return batchWriter.write(languages, mode, new BatchWriter.Target<>(PublicSection.LANGUAGES,
+                languageRepository, LanguageDTO::getId, LanguageDTO::getVersion, languageMapper::toEntity,
+                languageMapper::updateEntity, languageMapper::toDTO));
+    }
+
+    /**
+     * Create or update several interests; items with an id are updates
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResultDTO<InterestDTO> saveInterests(List<InterestDTO> interests, BatchMode mode) {
+        return batchWriter.write(interests, mode, new BatchWriter.Target<>(PublicSection.INTERESTS,
+                interestRepository, InterestDTO::getId, InterestDTO::getVersion, interestMapper::toEntity,
+                interestMapper::updateEntity, interestMapper::toDTO));
+    }
+
+    // ==================== DISPLAY ORDER ====================
+
+    /**
+     * Give the listed projects the display positions 1..n, in list order
+     */
+    public void reorderProjects(List<Long> ids) {
+        displayOrderWriter.reorder(Project.class, PublicSection.PROJECTS, ids);
+    }
+
+    /**
+     * Give the listed skills the display positions 1..n, in list order
+     * Skills are shown by category first, so one category can be reordered at a time.
+     */
+    public void reorderSkills(List<Long> ids) {
+        displayOrderWriter.reorder(Skill.class, PublicSection.SKILLS, ids);
+    }
+
+    /**
+     * Give the listed experiences the display positions 1..n, in list order
+     */
+    public void reorderExperiences(List<Long> ids) {
+        displayOrderWriter.reorder(Experience.class, PublicSection.EXPERIENCES, ids);
+    }
+
+    /**
+     * Give the listed education entries the display positions 1..n, in list order
+     */
+    public void reorderEducations(List<Long> ids) {
+        displayOrderWriter.reorder(Education.class, PublicSection.EDUCATION, ids);
+    }
+
+    /**
+     * Give the listed languages the display positions 1..n, in list order
+     */
+    public void reorderLanguages(List<Long> ids) {
+        displayOrderWriter.reorder(Language.class, PublicSection.LANGUAGES, ids);
+    }
+
+    /**
+     * Give the listed interests the display positions 1..n, in list order
+     */
+    public void reorderInterests(List<Long> ids) {
+        displayOrderWriter.reorder(Interest.class, PublicSection.INTERESTS, ids);
+    }
+
+    // ==================== PARTIAL UPDATES ====================
+
+    /**
+     * Apply a JSON merge patch to a project
+     */
+    public ProjectDTO patchProject(Long id, JsonNode patch, String ifMatch) {
+        log.info("Admin: Patching project with ID: {}", id);
+        Project project = findForWrite(projectRepository, id, "Project", ifMatch);
+        return patch(project, patch, projectRepository, projectMapper::toDTO,
+                projectMapper::updateEntity, PublicSection.PROJECTS);
+    }
+
+    /**
+     * Apply a JSON merge patch to a skill
+     */
+    public SkillDTO patchSkill(Long id, JsonNode patch, String ifMatch) {
+        log.info("Admin: Patching skill with ID: {}", id);
+        Skill skill = findForWrite(skillRepository, id, "Skill", ifMatch);
+        return patch(skill, patch, skillRepository, skillMapper::toDTO,
+                skillMapper::updateEntity, PublicSection.SKILLS);
+    }
+
+    /**
+     * Apply a JSON merge patch to an experience
+     */
+    public ExperienceDTO patchExperience(Long id, JsonNode patch, String ifMatch) {
+        log.info("Admin: Patching experience with ID: {}", id);
+        Experience experience = findForWrite(experienceRepository, id, "Experience", ifMatch);
+        return patch(experience, patch, experienceRepository, experienceMapper::toDTO,
+                experienceMapper::updateEntity, PublicSection.EXPERIENCES);
+    }
+
+    /**
+     * Apply a JSON merge patch to an education entry
+     */
+    public EducationDTO patchEducation(Long id, JsonNode patch, String ifMatch) {
+        log.info("Admin: Patching education with ID: {}", id);
+        Education education = findForWrite(educationRepository, id, "Education", ifMatch);
+        return patch(education, patch, educationRepository, educationMapper::toDTO,
+                educationMapper::updateEntity, PublicSection.EDUCATION);
+    }
+
+    /**
+     * Apply a JSON merge patch to a language
+     */
+    public LanguageDTO patchLanguage(Long id, JsonNode patch, String ifMatch) {
+        log.info("Admin: Patching language with ID: {}", id);
+        Language language = findForWrite(languageRepository, id, "Language", ifMatch);
+        return patch(language, patch, languageRepository, languageMapper::toDTO,
+                languageMapper::updateEntity, PublicSection.LANGUAGES);
+    }
+
+    /**
+     * Apply a JSON merge patch to an interest
+     */
+    public InterestDTO patchInterest(Long id, JsonNode patch, String ifMatch) {
+        log.info("Admin: Patching interest with ID: {}", id);
+        Interest interest = findForWrite(interestRepository, id, "Interest", ifMatch);
+        return patch(interest, patch, interestRepository, interestMapper::toDTO,
+                interestMapper::updateEntity, PublicSection.INTERESTS);
+    }
+
+    /**
+     * Apply a JSON merge patch to the About section
+     */
+    public AboutDTO patchAbout(JsonNode patch, String ifMatch) {
+        log.info("Admin: Patching About section");
+        About about = aboutRepository.findFirstByOrderByIdAsc()
+                .orElseThrow(() -> new ResourceNotFoundException("About section not found"));
+        versionGuard.check(ifMatch, about, "About section");
+        return patch(about, patch, aboutRepository, aboutMapper::toDTO, aboutMapper::updateEntity,
+                PublicSection.ABOUT);
+    }
+
+    /**
+     * Merge the patch into the entity loaded once
+     * The entities use dynamic updates, so only the changed columns are written, and
+     * collections the patch leaves alone are not rewritten. Nothing is written and no
+     * cache invalidated when the patch changes nothing.
+     */
+    private <D, E> D patch(E entity, JsonNode patch, JpaRepository<E, Long> repository, Function<E, D> toDTO,
+            BiConsumer<D, E> updateEntity, PublicSection section) {
+        D current = toDTO.apply(entity);
+        D patched = mergePatcher.apply(current, patch);
+        if (patched.equals(current)) {
+            log.info("Admin: Patch changes nothing, not written");
+            return current;
+        }
+        updateEntity.accept(patched, entity);
+        // Flushed here so the response carries the new version and updatedAt
+        repository.flush();
+        eventPublisher.publishEvent(new PublicContentChangedEvent(section));
+        return toDTO.apply(entity);
+    }
+
+    /**
+     * Load an entity to modify and check it is still at the version given in If-Match
+     * Hibernate then updates or deletes it with "WHERE id = ? AND version = ?", which
+     * fails with 412 if another write got in between.
+     */
+    private <E extends Versioned> E findForWrite(JpaRepository<E, Long> repository, Long id, String name,
+            String ifMatch) {
+        E entity = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(name + " not found with ID: " + id));
+        versionGuard.check(ifMatch, entity, name);
+        return entity;
+    }
+
     // ==================== CONTACT MESSAGES ====================
 
     /**
@@ -2,17 +2,16 @@ package com.portfolio.backend.service;
 
 import com.portfolio.backend.dto.JwtResponse;
 import com.portfolio.backend.dto.LoginRequest;
-import com.portfolio.backend.entity.Role;
 import com.portfolio.backend.entity.User;
-import com.portfolio.backend.repository.UserRepository;
+import com.portfolio.backend.exception.UnauthorizedException;
 import com.portfolio.backend.security.JwtUtils;
-import jakarta.annotation.PostConstruct;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,9 +19,8 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final TokenRevocationService tokenRevocationService;
 
     public JwtResponse authenticateUser(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
@@ -43,17 +41,21 @@ public class AuthService {
                 .build();
     }
 
-    // Bootstrap initial admin user
-    @PostConstruct
-    public void initAdmin() {
-        if (!userRepository.existsByUsername("admin")) {
-            User admin = new User(
-                    "admin",
-                    passwordEncoder.encode("admin123"),
-                    "admin@example.com",
-                    Role.ADMIN);
-            userRepository.save(admin);
-            System.out.println("Default Admin User Created: admin / admin123");
+    /**
+     * Revoke the given token so it can no longer be used, even before expiry
+     */
+    public void logout(String token) {
+        Claims claims;
+        try {
+            claims = jwtUtils.extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Invalid or expired token");
         }
+
+        if (claims.getId() == null) {
+            throw new UnauthorizedException("Token cannot be revoked (missing jti)");
+        }
+
+        tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
     }
 }
@@ -0,0 +1,296 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.cache.PublicContentChangedEvent;
+import com.portfolio.backend.cache.PublicSection;
+import com.portfolio.backend.dto.BatchMode;
+import com.portfolio.backend.dto.BatchResultDTO;
+import com.portfolio.backend.dto.BatchResultDTO.ItemResult;
+import com.portfolio.backend.dto.BatchResultDTO.ItemStatus;
+import com.portfolio.backend.entity.Versioned;
+import com.portfolio.backend.exception.BadRequestException;
+import com.portfolio.backend.exception.ErrorResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Creates and updates admin-managed entities in batches
+ *
+ * Every item is validated first, then all valid items are written in one
+ * transaction with a single lookup of the ids to update, so Hibernate can send
+ * the inserts and updates as JDBC batches. In ATOMIC mode any invalid, unknown
+ * or rejected item cancels the whole batch. In BEST_EFFORT mode those items are
+ * reported and the others written; if the database rejects the batch, its
+ * items are written again one transaction each to find the culprits.
+ *
+ * Updates carry the version they were read at, checked like the If-Match of a
+ * single update, and are applied to the loaded entities.
+ */
+@Slf4j
+@Component
+public class BatchWriter {
+
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VersionGuard versionGuard;
+    private final BatchMode defaultMode;
+    private final int maxItems;
+
+    public BatchWriter(Validator validator, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher, VersionGuard versionGuard,
+            @Value("${app.admin.batch.mode:ATOMIC}") BatchMode defaultMode,
+            @Value("${app.admin.batch.max-items:500}") int maxItems) {
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.versionGuard = versionGuard;
+        this.defaultMode = defaultMode;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * How to store the items of one entity type
+     *
+     * @param section    public section invalidated once the batch is written
+     * @param dtoId      id of an item, null to create it
+     * @param dtoVersion version an update was read at
+     */
+    public record Target<D, E extends Versioned>(PublicSection section, JpaRepository<E, Long> repository,
+            Function<D, Long> dtoId, Function<D, Long> dtoVersion, Function<D, E> toEntity,
+            BiConsumer<D, E> updateEntity, Function<E, D> toDTO) {
+    }
+
+    /**
+     * @param mode null for the configured default
+     */
+    public <D, E extends Versioned> BatchResultDTO<D> write(List<D> items, BatchMode mode, Target<D, E> target) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("The batch contains no items");
+        }
+        if (items.size() > maxItems) {
+            throw new BadRequestException("A batch is limited to " + maxItems + " items, got " + items.size());
+        }
+        BatchMode batchMode = mode != null ? mode : defaultMode;
+        List<ItemResult<D>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+
+        List<Integer> pending = validate(items, results);
+        if (batchMode == BatchMode.ATOMIC && pending.size() < items.size()) {
+            skip(pending, results);
+        } else if (!pending.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!writeAll(items, pending, batchMode, target, results)) {
+                        status.setRollbackOnly();
+                    }
+                });
+            } catch (DataAccessException e) {
+                if (batchMode == BatchMode.ATOMIC) {
+                    throw e;
+                }
+                log.warn("Admin: Batch of {} rejected by the database, writing its items one by one: {}",
+                        target.section(), e.getMessage());
+                writeEach(items, pending, target, results);
+            }
+        }
+
+        int succeeded = (int) results.stream()
+                .filter(result -> result.getStatus() == ItemStatus.CREATED || result.getStatus() == ItemStatus.UPDATED)
+                .count();
+        log.info("Admin: Batch of {} {} items written in {} mode: {} succeeded, {} failed", items.size(),
+                target.section(), batchMode, succeeded, items.size() - succeeded);
+        return BatchResultDTO.<D>builder()
+                .mode(batchMode)
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .items(results)
+                .build();
+    }
+
+    /**
+     * @return the indexes of the valid items
+     */
+    private <D> List<Integer> validate(List<D> items, List<ItemResult<D>> results) {
+        List<Integer> valid = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            D item = items.get(i);
+            if (item == null) {
+                results.set(i, failure(i, ItemStatus.INVALID, "Item is null"));
+                continue;
+            }
+            Set<ConstraintViolation<D>> violations = validator.validate(item);
+            if (violations.isEmpty()) {
+                valid.add(i);
+                continue;
+            }
+            List<ErrorResponse.ValidationError> errors = violations.stream()
+                    .map(violation -> ErrorResponse.ValidationError.builder()
+                            .field(violation.getPropertyPath().toString())
+                            .message(violation.getMessage())
+                            .build())
+                    .sorted(Comparator.comparing(ErrorResponse.ValidationError::getField)
+                            .thenComparing(ErrorResponse.ValidationError::getMessage))
+                    .toList();
+            ItemResult<D> result = failure(i, ItemStatus.INVALID, "Validation failed");
+            result.setValidationErrors(errors);
+            results.set(i, result);
+        }
+        return valid;
+    }
+
+    /**
+     * Write the valid items in the current transaction
+     *
+     * @return false if the transaction must be rolled back
+     */
+    private <D, E extends Versioned> boolean writeAll(List<D> items, List<Integer> pending, BatchMode mode,
+            Target<D, E> target, List<ItemResult<D>> results) {
+        // One query for every id to update; the updates are then applied to the loaded entities
+        Set<Long> ids = new HashSet<>();
+        for (int i : pending) {
+            Long id = target.dtoId().apply(items.get(i));
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        Map<Long, E> existing = new HashMap<>(ids.size());
+        target.repository().findAllById(ids).forEach(entity -> existing.put(entity.getId(), entity));
+
+        List<Integer> writable = new ArrayList<>(pending.size());
+        for (int i : pending) {
+            Long id = target.dtoId().apply(items.get(i));
+            if (id == null) {
+                writable.add(i);
+                continue;
+            }
+            E entity = existing.get(id);
+            if (entity == null) {
+                results.set(i, failure(i, ItemStatus.NOT_FOUND, "Not found with ID: " + id));
+                continue;
+            }
+            String mismatch = versionGuard.mismatch(target.dtoVersion().apply(items.get(i)), entity);
+            if (mismatch != null) {
+                results.set(i, failure(i, ItemStatus.CONFLICT, mismatch));
+            } else {
+                writable.add(i);
+            }
+        }
+        if (mode == BatchMode.ATOMIC && writable.size() < pending.size()) {
+            skip(writable, results);
+            return false;
+        }
+        if (writable.isEmpty()) {
+            return true;
+        }
+
+        List<E> entities = new ArrayList<>(writable.size());
+        List<E> created = new ArrayList<>();
+        for (int i : writable) {
+            D item = items.get(i);
+            Long id = target.dtoId().apply(item);
+            E entity = id == null ? target.toEntity().apply(item) : existing.get(id);
+            if (id == null) {
+                created.add(entity);
+            } else {
+                target.updateEntity().accept(item, entity);
+            }
+            entities.add(entity);
+        }
+        target.repository().saveAll(created);
+        target.repository().flush();
+        for (int k = 0; k < writable.size(); k++) {
+            int i = writable.get(k);
+            results.set(i, written(i, items.get(i), target, entities.get(k)));
+        }
+        eventPublisher.publishEvent(new PublicContentChangedEvent(target.section()));
+        return true;
+    }
+
+    /**
+     * Write the items that were in a rejected batch, one transaction each
+     */
+    private <D, E extends Versioned> void writeEach(List<D> items, List<Integer> pending, Target<D, E> target,
+            List<ItemResult<D>> results) {
+        boolean changed = false;
+        for (int i : pending) {
+            ItemResult<D> previous = results.get(i);
+            if (previous != null
+                    && (previous.getStatus() == ItemStatus.NOT_FOUND || previous.getStatus() == ItemStatus.CONFLICT)) {
+                continue;
+            }
+            int index = i;
+            try {
+                // Fresh entities: those of the rejected batch already carry generated ids or changes
+                ItemResult<D> result = transactionTemplate.execute(status -> writeOne(index, items.get(index), target));
+                results.set(i, Objects.requireNonNull(result));
+                changed |= result.getStatus() == ItemStatus.CREATED || result.getStatus() == ItemStatus.UPDATED;
+            } catch (DataAccessException e) {
+                results.set(i, failure(i, ItemStatus.FAILED, e instanceof DataIntegrityViolationException
+                        ? "Data integrity violation. Please check your data (e.g., unique constraints, length)."
+                        : "Database error"));
+            }
+        }
+        if (changed) {
+            eventPublisher.publishEvent(new PublicContentChangedEvent(target.section()));
+        }
+    }
+
+    private <D, E extends Versioned> ItemResult<D> writeOne(int index, D item, Target<D, E> target) {
+        Long id = target.dtoId().apply(item);
+        if (id == null) {
+            return written(index, item, target, target.repository().saveAndFlush(target.toEntity().apply(item)));
+        }
+        E entity = target.repository().findById(id).orElse(null);
+        if (entity == null) {
+            return failure(index, ItemStatus.NOT_FOUND, "Not found with ID: " + id);
+        }
+        String mismatch = versionGuard.mismatch(target.dtoVersion().apply(item), entity);
+        if (mismatch != null) {
+            return failure(index, ItemStatus.CONFLICT, mismatch);
+        }
+        target.updateEntity().accept(item, entity);
+        target.repository().flush();
+        return written(index, item, target, entity);
+    }
+
+    private static <D> void skip(List<Integer> indexes, List<ItemResult<D>> results) {
+        for (int i : indexes) {
+            results.set(i, failure(i, ItemStatus.SKIPPED, "Not written: other items of the batch failed"));
+        }
+    }
+
+    private static <D, E extends Versioned> ItemResult<D> written(int index, D item, Target<D, E> target, E saved) {
+        return ItemResult.<D>builder()
+                .index(index)
+                .status(target.dtoId().apply(item) == null ? ItemStatus.CREATED : ItemStatus.UPDATED)
+                .data(target.toDTO().apply(saved))
+                .build();
+    }
+
+    private static <D> ItemResult<D> failure(int index, ItemStatus status, String message) {
+        return ItemResult.<D>builder()
+                .index(index)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
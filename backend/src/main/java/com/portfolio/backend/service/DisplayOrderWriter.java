@@ -0,0 +1,105 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.cache.PublicContentChangedEvent;
+import com.portfolio.backend.cache.PublicSection;
+import com.portfolio.backend.exception.BadRequestException;
+import com.portfolio.backend.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites the displayOrder of a section in one statement
+ *
+ * The ids are given in their new order and get the positions 1..n through a
+ * single JPQL UPDATE ... SET displayOrder = CASE id WHEN ... END. Being a
+ * Hibernate bulk update, it also invalidates the entity's second-level cache
+ * region and the cached queries on its table. Entities left out of the list
+ * keep their position. The version of the reordered entities is incremented.
+ */
+@Slf4j
+@Component
+public class DisplayOrderWriter {
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxItems;
+
+    public DisplayOrderWriter(EntityManager entityManager, ApplicationEventPublisher eventPublisher,
+            @Value("${app.admin.batch.max-items:500}") int maxItems) {
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * @param entityType entity with a displayOrder attribute
+     * @param ids        ids in their new display order
+     * @return the number of rows updated
+     */
+    @Transactional
+    public int reorder(Class<?> entityType, PublicSection section, List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("The order contains no ids");
+        }
+        if (ids.size() > maxItems) {
+            throw new BadRequestException("An order is limited to " + maxItems + " ids, got " + ids.size());
+        }
+        if (ids.contains(null) || new HashSet<>(ids).size() < ids.size()) {
+            throw new BadRequestException("The order must list distinct ids");
+        }
+
+        String entity = entityManager.getMetamodel().entity(entityType).getName();
+        boolean timestamped = hasAttribute(entityType, "updatedAt");
+        boolean versioned = hasAttribute(entityType, "version");
+        StringBuilder jpql = new StringBuilder("UPDATE ").append(entity).append(" e SET e.displayOrder = CASE e.id");
+        for (int i = 0; i < ids.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN ").append(i + 1);
+        }
+        jpql.append(" END");
+        if (timestamped) {
+            jpql.append(", e.updatedAt = :now");
+        }
+        if (versioned) {
+            // An admin tab still holding the previous ETag must not restore the old order
+            jpql.append(", e.version = e.version + 1");
+        }
+        jpql.append(" WHERE e.id IN :ids");
+
+        Query update = entityManager.createQuery(jpql.toString());
+        for (int i = 0; i < ids.size(); i++) {
+            update.setParameter("id" + i, ids.get(i));
+        }
+        if (timestamped) {
+            update.setParameter("now", LocalDateTime.now());
+        }
+        int updated = update.setParameter("ids", ids).executeUpdate();
+
+        if (updated < ids.size()) {
+            // Rolled back by the exception, so a partial order is never applied
+            Set<Long> missing = new LinkedHashSet<>(ids);
+            missing.removeAll(entityManager.createQuery("SELECT e.id FROM " + entity + " e WHERE e.id IN :ids",
+                    Long.class).setParameter("ids", ids).getResultList());
+            throw new ResourceNotFoundException(entity + " not found with ID: " + missing);
+        }
+
+        log.info("Admin: {} {} reordered", updated, entity);
+        eventPublisher.publishEvent(new PublicContentChangedEvent(section));
+        return updated;
+    }
+
+    private boolean hasAttribute(Class<?> entityType, String name) {
+        return entityManager.getMetamodel().entity(entityType).getAttributes().stream()
+                .anyMatch(attribute -> attribute.getName().equals(name));
+    }
+}
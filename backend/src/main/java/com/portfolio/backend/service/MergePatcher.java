@@ -0,0 +1,90 @@
+package com.portfolio.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.backend.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies JSON merge patches (RFC 7396) to admin DTOs
+ *
+ * The patch is merged into the JSON form of the current DTO: members set to
+ * null are removed, objects are merged recursively and any other value,
+ * arrays included, replaces the current one. The result is read back and
+ * validated like a full update, so a patch cannot leave an invalid entity.
+ * The members the server maintains (id, version, timestamps) cannot be
+ * patched: the version travels in If-Match, not in the body.
+ */
+@Component
+@RequiredArgsConstructor
+public class MergePatcher {
+
+    private static final Set<String> READ_ONLY = Set.of("id", "version", "createdAt", "updatedAt");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * @param current DTO of the stored entity
+     * @return a new DTO with the patch applied
+     * @throws BadRequestException          if the patch is not an object, sets a read-only member or does not
+     *                                      fit the DTO
+     * @throws ConstraintViolationException if the patched DTO is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public <D> D apply(D current, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object");
+        }
+        List<String> readOnly = READ_ONLY.stream().filter(patch::has).sorted().toList();
+        if (!readOnly.isEmpty()) {
+            throw new BadRequestException("Read-only members cannot be patched: " + String.join(", ", readOnly));
+        }
+        JsonNode merged = merge(objectMapper.valueToTree(current), patch);
+        D patched;
+        try {
+            // Unknown members are rejected rather than ignored, so a typo does not pass for a no-op
+            patched = (D) objectMapper.readerFor(current.getClass())
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .treeToValue(merged, current.getClass());
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Invalid merge patch: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<D>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return patched;
+    }
+
+    private static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? (ObjectNode) target
+                : JsonNodeFactory.instance.objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext();) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -51,9 +51,7 @@ public class PortfolioService {
     @Transactional(readOnly = true)
     public AboutDTO getAbout() {
         log.debug("Fetching About section");
-        About about = aboutRepository.findAll().stream()
-                .findFirst()
-                .orElse(null);
+        About about = aboutRepository.findFirstByOrderByIdAsc().orElse(null);
 
         if (about == null) {
             log.warn("No About section found in database");
@@ -71,8 +69,10 @@ public class PortfolioService {
     @Transactional(readOnly = true)
     public List<ProjectDTO> getAllProjects() {
         log.debug("Fetching all projects");
-        List<Project> projects = projectRepository.findAll();
-        log.info("Found {} projects", projects.size());
+        List<Project> projects = projectRepository.findAllByOrderByDisplayOrderAscIdAsc();
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} projects", projects.size());
+        }
         return projectMapper.toDTOList(projects);
     }
 
@@ -84,8 +84,10 @@ public class PortfolioService {
     @Transactional(readOnly = true)
     public List<SkillDTO> getAllSkills() {
         log.debug("Fetching all skills");
-        List<Skill> skills = skillRepository.findAll();
-        log.info("Found {} skills", skills.size());
+        List<Skill> skills = skillRepository.findAllByOrderByCategoryAscDisplayOrderAscIdAsc();
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} skills", skills.size());
+        }
         return skillMapper.toDTOList(skills);
     }
 
@@ -97,8 +99,10 @@ public class PortfolioService {
     @Transactional(readOnly = true)
     public List<ExperienceDTO> getAllExperiences() {
         log.debug("Fetching all experiences");
-        List<Experience> experiences = experienceRepository.findAll();
-        log.info("Found {} experiences", experiences.size());
+        List<Experience> experiences = experienceRepository.findAllByOrderByDisplayOrderAscIdAsc();
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} experiences", experiences.size());
+        }
         return experienceMapper.toDTOList(experiences);
     }
 
@@ -110,8 +114,10 @@ public class PortfolioService {
     @Transactional(readOnly = true)
     public List<EducationDTO> getAllEducation() {
         log.debug("Fetching all education entries");
-        List<Education> educations = educationRepository.findAll();
-        log.info("Found {} education entries", educations.size());
+        List<Education> educations = educationRepository.findAllByOrderByDisplayOrderAscIdAsc();
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} education entries", educations.size());
+        }
         return educationMapper.toDTOList(educations);
     }
 
@@ -123,8 +129,10 @@ public class PortfolioService {
     @Transactional(readOnly = true)
     public List<LanguageDTO> getAllLanguages() {
         log.debug("Fetching all languages");
-        List<Language> languages = languageRepository.findAll();
-        log.info("Found {} languages", languages.size());
+        List<Language> languages = languageRepository.findAllByOrderByDisplayOrderAscIdAsc();
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} languages", languages.size());
+        }
         return languageMapper.toDTOList(languages);
     }
 
@@ -136,8 +144,10 @@ public class PortfolioService {
     @Transactional(readOnly = true)
     public List<InterestDTO> getAllInterests() {
         log.debug("Fetching all interests");
-        List<Interest> interests = interestRepository.findAll();
-        log.info("Found {} interests", interests.size());
+        List<Interest> interests = interestRepository.findAllByOrderByDisplayOrderAscIdAsc();
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} interests", interests.size());
+        }
         return interestMapper.toDTOList(interests);
     }
 
@@ -0,0 +1,146 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a project at the version given in If-Match without reading it first
+ *
+ * Projects are not in the second-level cache (the synthetic dataset holds far
+ * more of them than the other sections), so loading one before a write costs
+ * a query. An update is a single JPQL UPDATE ... WHERE id = ? AND version = ?
+ * on the projects row, followed by the rewrite of its technologies; a delete
+ * is a JPQL DELETE with the same condition. When no row matches, the
+ * exception rolls the transaction back and the write gets 404 or 412.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectWriter {
+
+    private static final String TECHNOLOGIES = "project_technologies";
+
+    private final EntityManager entityManager;
+    private final VersionGuard versionGuard;
+
+    /**
+     * Overwrite the editable fields of a project
+     *
+     * @return the project as written; its creation date is not read back
+     */
+    @Transactional
+    public ProjectDTO update(Long id, long version, ProjectDTO dto) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = entityManager.createQuery("UPDATE Project p SET p.title = :title, "
+                        + "p.description = :description, p.imageUrl = :imageUrl, p.demoUrl = :demoUrl, "
+                        + "p.githubUrl = :githubUrl, p.category = :category, p.featured = :featured, "
+                        + "p.displayOrder = :displayOrder, p.updatedAt = :now, p.version = p.version + 1 "
+                        + "WHERE p.id = :id AND p.version = :version")
+                .setParameter("title", dto.getTitle())
+                .setParameter("description", dto.getDescription())
+                .setParameter("imageUrl", dto.getImageUrl())
+                .setParameter("demoUrl", dto.getDemoUrl())
+                .setParameter("githubUrl", dto.getGithubUrl())
+                .setParameter("category", dto.getCategory())
+                .setParameter("featured", dto.getFeatured())
+                .setParameter("displayOrder", dto.getDisplayOrder())
+                .setParameter("now", now)
+                .setParameter("id", id)
+                .setParameter("version", version)
+                .executeUpdate();
+        if (updated == 0) {
+            throw notWritten(id, version);
+        }
+
+        List<String> technologies = dto.getTechnologies() != null ? dto.getTechnologies() : List.of();
+        deleteTechnologies(id);
+        insertTechnologies(id, technologies);
+
+        return ProjectDTO.builder()
+                .id(id)
+                .version(version + 1)
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .imageUrl(dto.getImageUrl())
+                .demoUrl(dto.getDemoUrl())
+                .githubUrl(dto.getGithubUrl())
+                .technologies(new ArrayList<>(technologies))
+                .category(dto.getCategory())
+                .featured(dto.getFeatured())
+                .displayOrder(dto.getDisplayOrder())
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Delete a project; Hibernate removes the technologies of the matching row first
+     */
+    @Transactional
+    public void delete(Long id, long version) {
+        int deleted = entityManager.createQuery("DELETE FROM Project p WHERE p.id = :id AND p.version = :version")
+                .setParameter("id", id)
+                .setParameter("version", version)
+                .executeUpdate();
+        if (deleted == 0) {
+            throw notWritten(id, version);
+        }
+    }
+
+    private void deleteTechnologies(Long id) {
+        technologiesQuery("DELETE FROM " + TECHNOLOGIES + " WHERE project_id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    /**
+     * All technologies in one multi-row INSERT
+     */
+    private void insertTechnologies(Long id, List<String> technologies) {
+        if (technologies.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO " + TECHNOLOGIES + " (project_id, technology) VALUES ");
+        for (int i = 0; i < technologies.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:id, :technology").append(i).append(")");
+        }
+        Query insert = technologiesQuery(sql.toString()).setParameter("id", id);
+        for (int i = 0; i < technologies.size(); i++) {
+            insert.setParameter("technology" + i, technologies.get(i));
+        }
+        insert.executeUpdate();
+    }
+
+    /**
+     * Native statement on the technologies table
+     * Declaring the table keeps Hibernate from evicting every second-level
+     * cache region: only the technology lists and the queries on that table
+     * are invalidated.
+     */
+    private Query technologiesQuery(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(TECHNOLOGIES);
+        return query;
+    }
+
+    /**
+     * Why no row matched, read only once the write has failed
+     */
+    private RuntimeException notWritten(Long id, long expected) {
+        List<Long> current = entityManager.createQuery("SELECT p.version FROM Project p WHERE p.id = :id", Long.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (current.isEmpty()) {
+            return new ResourceNotFoundException("Project not found with ID: " + id);
+        }
+        return versionGuard.modified("Project", id, current.get(0), expected);
+    }
+}
@@ -0,0 +1,179 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.entity.RevokedToken;
+import com.portfolio.backend.repository.RevokedTokenRepository;
+import com.portfolio.backend.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service for revoking JWTs before their natural expiry
+ * Revoked token ids (jti) are kept in memory as a Bloom filter in front of an
+ * exact set, so the authentication filter never needs a database call.
+ * The revoked_tokens table is only used to rebuild that state on restart.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TaskScheduler taskScheduler;
+    private final int minimumCapacity;
+
+    /**
+     * Exact set of revoked jti values mapped to the token expiry (epoch millis)
+     */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes filter writers; a lock rather than synchronized so that a
+     * virtual thread waiting on it does not pin its carrier thread
+     */
+    private final ReentrantLock filterLock = new ReentrantLock();
+
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean loaded;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+            TaskScheduler taskScheduler,
+            @Value("${jwt.revocation.min-capacity:1024}") int minimumCapacity) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.taskScheduler = taskScheduler;
+        this.minimumCapacity = minimumCapacity;
+        this.bloomFilter = new BloomFilter(minimumCapacity, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Check whether a token id has been revoked
+     * Until the in-memory store has been rebuilt after a restart, falls back to
+     * the database so that no revocation is ever missed.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        if (!loaded) {
+            return revokedTokenRepository.existsByJti(jti);
+        }
+        return bloomFilter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * Revoke a token until its expiry
+     */
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        if (revoked.containsKey(jti)) {
+            return;
+        }
+
+        if (!revokedTokenRepository.existsByJti(jti)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(jti)
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                    .build());
+        }
+
+        revoked.put(jti, expiresAt.toEpochMilli());
+        addToFilter(jti);
+        schedulePrune(jti, expiresAt);
+        log.info("Token {} revoked until {}", jti, expiresAt);
+    }
+
+    /**
+     * Rebuild the in-memory store from the persisted revocations
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRevokedTokens() {
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now());
+        active.forEach(token -> {
+            Instant expiresAt = token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant();
+            revoked.put(token.getJti(), expiresAt.toEpochMilli());
+            schedulePrune(token.getJti(), expiresAt);
+        });
+        rebuildFilter();
+        loaded = true;
+        log.info("Loaded {} active token revocations", active.size());
+    }
+
+    /**
+     * Delete persisted revocations of tokens that have expired
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval:3600000}")
+    @Transactional
+    public void deleteExpiredRevocations() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired token revocations", deleted);
+        }
+    }
+
+    /**
+     * Number of revoked tokens that have not expired yet
+     */
+    public int getActiveCount() {
+        return revoked.size();
+    }
+
+    private void addToFilter(String jti) {
+        filterLock.lock();
+        try {
+            if (revoked.size() > bloomFilter.capacity()) {
+                rebuildFilter();
+            } else {
+                bloomFilter.put(jti);
+            }
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private void schedulePrune(String jti, Instant expiresAt) {
+        taskScheduler.schedule(() -> prune(jti), expiresAt);
+    }
+
+    private void prune(String jti) {
+        revoked.remove(jti);
+        // Bloom filters cannot forget entries, so shrink it once it is mostly stale
+        if (bloomFilter.capacity() > minimumCapacity && revoked.size() < bloomFilter.capacity() / 4) {
+            rebuildFilter();
+        }
+    }
+
+    /**
+     * Replace the Bloom filter with one sized for twice the active token count
+     * Writers are serialized with addToFilter; readers keep using the previous
+     * filter until the new one is published.
+     */
+    private void rebuildFilter() {
+        filterLock.lock();
+        try {
+            BloomFilter rebuilt = new BloomFilter(Math.max(minimumCapacity, revoked.size() * 2), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        } finally {
+            filterLock.unlock();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.cache.PublicContentChangedEvent;
+import com.portfolio.backend.cache.PublicSection;
 import com.portfolio.backend.entity.Translation;
+import com.portfolio.backend.monitoring.jfr.TranslationLookupEvent;
 import com.portfolio.backend.repository.TranslationRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,10 +22,24 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TranslationService {
 
     private final TranslationRepository translationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Per-field lookups done by applyTranslation, by whether a translation existed
+     */
+    private final Counter lookupsFound;
+    private final Counter lookupsFallback;
+
+    public TranslationService(TranslationRepository translationRepository, MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher) {
+        this.translationRepository = translationRepository;
+        this.eventPublisher = eventPublisher;
+        this.lookupsFound = lookupCounter(meterRegistry, "found");
+        this.lookupsFallback = lookupCounter(meterRegistry, "fallback");
+    }
 
     /**
      * Get translation for a specific field
@@ -68,7 +87,9 @@ public class TranslationService {
             log.debug("Creating translation: {} #{} - {} [{}]", entityType, entityId, fieldName, language);
         }
 
-        return translationRepository.save(translation);
+        Translation saved = translationRepository.save(translation);
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.ofEntityType(entityType)));
+        return saved;
     }
 
     /**
@@ -86,6 +107,7 @@ public class TranslationService {
     @Transactional
     public void deleteEntityTranslations(String entityType, Long entityId) {
         translationRepository.deleteByEntityTypeAndEntityId(entityType, entityId);
+        eventPublisher.publishEvent(new PublicContentChangedEvent(PublicSection.ofEntityType(entityType)));
         log.info("Deleted all translations for {} #{}", entityType, entityId);
     }
 
@@ -101,7 +123,26 @@ public class TranslationService {
         }
 
         // Try to get translation
-        return getTranslation(entityType, entityId, fieldName, language)
-                .orElse(originalValue); // Fallback to original if translation not found
+        TranslationLookupEvent event = new TranslationLookupEvent();
+        event.begin();
+        Optional<String> translation = getTranslation(entityType, entityId, fieldName, language);
+        event.end();
+        if (event.shouldCommit()) {
+            event.entityType = entityType;
+            event.entityId = entityId;
+            event.fieldName = fieldName;
+            event.language = language;
+            event.found = translation.isPresent();
+            event.commit();
+        }
+        (translation.isPresent() ? lookupsFound : lookupsFallback).increment();
+        return translation.orElse(originalValue); // Fallback to original if translation not found
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("translation.lookups")
+                .description("Per-field translation lookups")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,86 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.entity.Versioned;
+import com.portfolio.backend.exception.BadRequestException;
+import com.portfolio.backend.exception.PreconditionFailedException;
+import com.portfolio.backend.exception.PreconditionRequiredException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks the If-Match of admin writes against the version of the stored entity
+ *
+ * The admin responses carry the version as a strong ETag ("3"). A write sent
+ * with another version gets 412, so two tabs editing the same entity cannot
+ * silently overwrite each other. "*" matches any version. Writes without
+ * If-Match get 428 unless app.admin.require-if-match is off.
+ */
+@Component
+public class VersionGuard {
+
+    private final boolean required;
+
+    public VersionGuard(@Value("${app.admin.require-if-match:true}") boolean required) {
+        this.required = required;
+    }
+
+    /**
+     * @param ifMatch  If-Match header of the request, may be null
+     * @param resource name used in the error messages, e.g. "Project"
+     */
+    public void check(String ifMatch, Versioned entity, String resource) {
+        Long expected = expectedVersion(ifMatch, resource);
+        if (expected != null && !expected.equals(entity.getVersion())) {
+            throw modified(resource, entity.getId(), entity.getVersion(), expected);
+        }
+    }
+
+    /**
+     * The 412 of a write that expected another version than the stored one
+     */
+    public PreconditionFailedException modified(String resource, Long id, Long version, Long expected) {
+        return new PreconditionFailedException(resource + " " + id + " was modified meanwhile (version "
+                + version + ", not " + expected + "). Reload it and try again.");
+    }
+
+    /**
+     * Same check for the version carried by a batch item
+     *
+     * @return why the item may not be written, null if it may
+     */
+    public String mismatch(Long expected, Versioned entity) {
+        if (expected == null) {
+            return required ? "Version required to update ID " + entity.getId() : null;
+        }
+        return expected.equals(entity.getVersion()) ? null
+                : "Modified meanwhile: version " + entity.getVersion() + ", not " + expected;
+    }
+
+    /**
+     * @return the version If-Match expects, null if any version matches
+     */
+    public Long expectedVersion(String ifMatch, String resource) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            if (required) {
+                throw new PreconditionRequiredException(
+                        "If-Match header required, with the ETag the " + resource + " was read with");
+            }
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.portfolio.backend.util;
 
+import com.portfolio.backend.monitoring.jfr.TranslationApplyEvent;
+import com.portfolio.backend.monitoring.tracing.Tracer;
 import com.portfolio.backend.service.TranslationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class for applying translations to DTOs
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TranslationHelper {
@@ -37,6 +42,21 @@ public class TranslationHelper {
             return; // No translation needed for French (default)
         }
 
+        TranslationApplyEvent event = new TranslationApplyEvent();
+        event.begin();
+        try (Tracer.Scope span = Tracer.span("translation", entityType)) {
+            int fields = translateFields(dto, entityType, entityId, language);
+            commit(event, entityType, language, 1, fields);
+        }
+    }
+
+    /**
+     * Translate the fields of one DTO
+     *
+     * @return the number of fields looked up
+     */
+    private int translateFields(Object dto, String entityType, Long entityId, String language) {
+        int fields = 0;
         try {
             Class<?> clazz = dto.getClass();
             for (Field field : clazz.getDeclaredFields()) {
@@ -51,13 +71,15 @@ public class TranslationHelper {
                         String translatedValue = translationService.applyTranslation(
                                 originalValue, entityType, entityId, fieldName, language);
                         field.set(dto, translatedValue);
+                        fields++;
                     }
                 }
             }
         } catch (Exception e) {
             // Log error but don't fail - return original DTO
-            System.err.println("Error applying translations: " + e.getMessage());
+            log.warn("Error applying translations to {} #{}: {}", entityType, entityId, e.getMessage());
         }
+        return fields;
     }
 
     /**
@@ -68,20 +90,101 @@ public class TranslationHelper {
             return;
         }
 
-        for (T dto : dtos) {
-            try {
-                // Get the ID field
-                Field idField = dto.getClass().getDeclaredField("id");
-                idField.setAccessible(true);
-                Long entityId = (Long) idField.get(dto);
+        TranslationApplyEvent event = new TranslationApplyEvent();
+        event.begin();
+        int fields = 0;
+        try (Tracer.Scope span = Tracer.span("translation", entityType)) {
+            for (T dto : dtos) {
+                try {
+                    // Get the ID field
+                    Field idField = dto.getClass().getDeclaredField("id");
+                    idField.setAccessible(true);
+                    Long entityId = (Long) idField.get(dto);
 
-                if (entityId != null) {
-                    applyTranslations(dto, entityType, entityId, language);
+                    if (entityId != null) {
+                        fields += translateFields(dto, entityType, entityId, language);
+                    }
+                } catch (Exception e) {
+                    // Continue with next item
+                    log.warn("Error applying translations to {} list item: {}", entityType, e.getMessage());
                 }
-            } catch (Exception e) {
-                // Continue with next item
-                System.err.println("Error applying translations to list item: " + e.getMessage());
             }
         }
+        commit(event, entityType, language, dtos.size(), fields);
+    }
+
+    private static void commit(TranslationApplyEvent event, String entityType, String language, int items,
+            int fields) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.entityType = entityType;
+            event.language = language;
+            event.items = items;
+            event.fields = fields;
+            event.commit();
+        }
+    }
+
+    /**
+     * Overwrite translatable fields of a DTO with already loaded translations
+     * Used by the reactive API, which fetches all translations of a section in one query.
+     *
+     * @param dto          The DTO object
+     * @param translations Translated values by field name
+     */
+    public static void applyTranslations(Object dto, Map<String, String> translations) {
+        if (dto == null || translations == null || translations.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (Field field : dto.getClass().getDeclaredFields()) {
+                String fieldName = field.getName();
+                String translatedValue = translations.get(fieldName);
+
+                if (translatedValue != null && field.getType().equals(String.class)
+                        && TRANSLATABLE_FIELDS.contains(fieldName)) {
+                    field.setAccessible(true);
+                    String originalValue = (String) field.get(dto);
+
+                    if (originalValue != null && !originalValue.isEmpty()) {
+                        field.set(dto, translatedValue);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Log error but don't fail - keep original values
+            log.warn("Error applying translations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Extract language code from Accept-Language header
+     * Supports formats: "fr", "en", "fr-FR", "en-US"
+     * Returns lowercase 2-letter ISO code
+     */
+    public static String extractLanguage(String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.trim().isEmpty()) {
+            return "fr"; // Default to French
+        }
+
+        // Extract first language from comma-separated list
+        String lang = acceptLanguage.split(",")[0].trim();
+
+        // Extract language code (before hyphen if present)
+        if (lang.contains("-")) {
+            lang = lang.split("-")[0];
+        }
+
+        // Normalize to lowercase
+        lang = lang.toLowerCase();
+
+        // Validate supported languages
+        if ("en".equals(lang) || "fr".equals(lang)) {
+            return lang;
+        }
+
+        // Default to French for unsupported languages
+        return "fr";
     }
 }
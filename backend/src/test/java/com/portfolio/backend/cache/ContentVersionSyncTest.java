@@ -0,0 +1,153 @@
+package com.portfolio.backend.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.PortfolioBackendApplication;
+import com.portfolio.backend.config.SeedingStatus;
+import com.portfolio.backend.service.AdminService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.client.RestClient;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bounded staleness of the public cache across two instances
+ * Both application contexts run in this JVM on one shared H2 database, each
+ * with its own public cache and second-level cache. A change made through the
+ * first one must be served by the second within the poll interval plus one
+ * query, while the first does not invalidate its caches again for the content
+ * version it wrote itself.
+ */
+class ContentVersionSyncTest {
+
+    private static final long POLL_INTERVAL_MS = 500;
+    private static final long ONE_QUERY_MS = 500;
+    private static final String DATABASE_URL =
+            "jdbc:h2:mem:content-version-sync;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext writer;
+    private static ConfigurableApplicationContext reader;
+
+    @BeforeAll
+    static void startInstances() throws InterruptedException {
+        // One after the other, so the second finds the sample data already seeded
+        writer = startInstance();
+        reader = startInstance();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (reader != null) {
+            reader.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    void otherInstanceServesChangeWithinPollIntervalPlusOneQuery() throws Exception {
+        RestClient readerClient = RestClient.create(
+                "http://localhost:" + reader.getEnvironment().getProperty("local.server.port"));
+        JsonNode skill = readerClient.get().uri("/api/v1/skills").retrieve().body(JsonNode.class).get(0);
+        long id = skill.get("id").asLong();
+        String name = skill.get("name").asText();
+
+        Counter readerHits = lookups(reader, "hit");
+        double hitsBefore = readerHits.count();
+        assertEquals(name, skillName(readerClient, id));
+        assertEquals(hitsBefore + 1, readerHits.count(), "The reader should serve skills from its public cache");
+
+        double writerInvalidations = invalidations(writer);
+        double readerInvalidations = invalidations(reader);
+        String renamed = name + " (renamed)";
+        ObjectMapper objectMapper = writer.getBean(ObjectMapper.class);
+        writer.getBean(AdminService.class).patchSkill(id,
+                objectMapper.createObjectNode().put("name", renamed), "*");
+        long committed = System.nanoTime();
+
+        long deadline = committed + (POLL_INTERVAL_MS + ONE_QUERY_MS) * 1_000_000;
+        String served = skillName(readerClient, id);
+        while (!renamed.equals(served) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            served = skillName(readerClient, id);
+        }
+        long staleMs = (System.nanoTime() - committed) / 1_000_000;
+        assertEquals(renamed, served, "The reader still served the old name after " + staleMs + " ms");
+        assertEquals(readerInvalidations + 1, invalidations(reader));
+
+        // Let the writer poll its own version at least once
+        Thread.sleep(2 * POLL_INTERVAL_MS);
+        assertEquals(writerInvalidations, invalidations(writer),
+                "The writer invalidated its caches again for a version it wrote itself");
+    }
+
+    private static ConfigurableApplicationContext startInstance() throws InterruptedException {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                PortfolioBackendApplication.class, SeparateSecondLevelCache.class)
+                .profiles("h2")
+                .run("--spring.datasource.url=" + DATABASE_URL,
+                        "--app.public-cache.sync.poll-interval=" + POLL_INTERVAL_MS);
+        SeedingStatus seedingStatus = context.getBean(SeedingStatus.class);
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (!seedingStatus.isCompleted() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(seedingStatus.isCompleted(), "Sample data was not seeded");
+        return context;
+    }
+
+    private static String skillName(RestClient client, long id) {
+        for (JsonNode skill : client.get().uri("/api/v1/skills").retrieve().body(JsonNode.class)) {
+            if (skill.get("id").asLong() == id) {
+                return skill.get("name").asText();
+            }
+        }
+        return null;
+    }
+
+    private static Counter lookups(ConfigurableApplicationContext context, String result) {
+        Counter counter = context.getBean(MeterRegistry.class).find("public.cache.lookups")
+                .tags("section", "skills", "result", result)
+                .counter();
+        assertNotNull(counter);
+        return counter;
+    }
+
+    private static double invalidations(ConfigurableApplicationContext context) {
+        return context.getBean(MeterRegistry.class).get("public.cache.sync.invalidations").counter().count();
+    }
+
+    /**
+     * Gives each instance its own JCache manager: the provider shares one per
+     * configuration URI and class loader, which would let the instances share
+     * their second-level cache as separate processes never do
+     */
+    @TestConfiguration
+    static class SeparateSecondLevelCache {
+
+        @Bean
+        HibernatePropertiesCustomizer separateCacheManager() throws Exception {
+            ClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+            CacheManager cacheManager = Caching.getCachingProvider()
+                    .getCacheManager(getClass().getResource("/ehcache.xml").toURI(), classLoader);
+            return properties -> properties.put("hibernate.javax.cache.cache_manager", cacheManager);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.portfolio.backend.monitoring;
+
+import com.portfolio.backend.config.SeedingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budget of the public endpoints
+ * The public cache and the Hibernate second-level cache are off, so every
+ * request runs its queries: a new N+1 query or an extra lookup per row fails
+ * the build instead of only showing up in the metrics.
+ */
+@SpringBootTest(properties = {
+        "app.public-cache.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class PublicEndpointsSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SeedingStatus seedingStatus;
+
+    @BeforeEach
+    void waitForSeeding() throws InterruptedException {
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (!seedingStatus.isCompleted() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(seedingStatus.isCompleted(), "Sample data was not seeded");
+    }
+
+    /**
+     * Budgets for the seeded sample data. Translated sections still look up each
+     * field separately, and project technologies are loaded per project.
+     */
+    @ParameterizedTest(name = "{0} [{1}] at most {2} statements")
+    @CsvSource({
+            "/api/v1/about, fr, 1",
+            "/api/v1/about, en, 5",
+            "/api/v1/projects, fr, 5",
+            "/api/v1/projects, en, 17",
+            "/api/v1/skills, fr, 1",
+            "/api/v1/skills, en, 27",
+            "/api/v1/experiences, fr, 1",
+            "/api/v1/experiences, en, 13",
+            "/api/v1/education, fr, 1",
+            "/api/v1/education, en, 11",
+            "/api/v1/languages, fr, 1",
+            "/api/v1/languages, en, 4",
+            "/api/v1/interests, fr, 1",
+            "/api/v1/interests, en, 9" })
+    void publicEndpointStaysWithinStatementBudget(String uri, String language, int budget) throws Exception {
+        SqlStatistics statistics = SqlStatistics.capture(() -> mockMvc
+                .perform(get(uri).header("Accept-Language", language))
+                .andExpect(status().isOk()));
+
+        statistics.assertStatementsAtMost(budget);
+    }
+}
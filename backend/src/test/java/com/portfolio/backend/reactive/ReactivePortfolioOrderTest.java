@@ -0,0 +1,138 @@
+package com.portfolio.backend.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.portfolio.backend.PortfolioBackendApplication;
+import com.portfolio.backend.config.SeedingStatus;
+import com.portfolio.backend.service.AdminService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Both public APIs list the sections in the same order, with the same versions
+ * The servlet application and the reactive application run in this JVM on one
+ * shared H2 database, read through JDBC and R2DBC respectively. A reorder made
+ * through the admin API must show up in the responses of both.
+ */
+class ReactivePortfolioOrderTest {
+
+    private static final String DATABASE = "reactive-order";
+    private static final String OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext servlet;
+    private static ConfigurableApplicationContext reactive;
+    private static RestClient servletClient;
+    private static RestClient reactiveClient;
+
+    @BeforeAll
+    static void startApplications() throws InterruptedException {
+        servlet = new SpringApplicationBuilder(PortfolioBackendApplication.class)
+                .profiles("h2")
+                .run("--spring.datasource.url=jdbc:h2:mem:" + DATABASE + OPTIONS);
+        SeedingStatus seedingStatus = servlet.getBean(SeedingStatus.class);
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (!seedingStatus.isCompleted() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(seedingStatus.isCompleted(), "Sample data was not seeded");
+
+        reactive = new SpringApplicationBuilder(PortfolioReactiveApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive", "h2")
+                .run("--spring.r2dbc.url=r2dbc:h2:mem:///" + DATABASE + OPTIONS,
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=");
+
+        servletClient = client(servlet);
+        reactiveClient = client(reactive);
+    }
+
+    @AfterAll
+    static void stopApplications() {
+        if (reactive != null) {
+            reactive.close();
+        }
+        if (servlet != null) {
+            servlet.close();
+        }
+    }
+
+    @ParameterizedTest(name = "{0} [{1}]")
+    @CsvSource({
+            "projects, fr", "projects, en",
+            "skills, fr", "skills, en",
+            "experiences, fr", "experiences, en",
+            "education, fr", "education, en",
+            "languages, fr", "languages, en",
+            "interests, fr", "interests, en"
+    })
+    void sectionIsListedInTheSameOrder(String section, String language) {
+        List<Long> ids = ids(servletClient, section, language);
+        assertTrue(ids.size() > 1, "Not enough sample " + section + " to compare their order");
+        assertEquals(ids, ids(reactiveClient, section, language));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"about", "projects", "skills", "experiences", "education", "languages", "interests"})
+    void sectionCarriesTheSameVersions(String section) {
+        Map<Long, Long> versions = versions(servletClient, section);
+        assertFalse(versions.containsValue(null), "The servlet API sent no version for " + section);
+        assertEquals(versions, versions(reactiveClient, section));
+    }
+
+    @Test
+    void reorderedProjectsAreListedInTheNewOrder() {
+        List<Long> reordered = new ArrayList<>(ids(servletClient, "projects", "fr"));
+        Collections.reverse(reordered);
+
+        servlet.getBean(AdminService.class).reorderProjects(reordered);
+
+        assertEquals(reordered, ids(servletClient, "projects", "fr"));
+        assertEquals(reordered, ids(reactiveClient, "projects", "fr"));
+        assertEquals(reordered, ids(reactiveClient, "projects", "en"));
+    }
+
+    private static RestClient client(ConfigurableApplicationContext context) {
+        return RestClient.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    /**
+     * @return version by id; about is a single object, the other sections are arrays
+     */
+    private static Map<Long, Long> versions(RestClient client, String section) {
+        JsonNode body = client.get().uri("/api/v1/" + section).retrieve().body(JsonNode.class);
+        Map<Long, Long> versions = new HashMap<>();
+        for (JsonNode item : body.isArray() ? body : List.of(body)) {
+            JsonNode version = item.get("version");
+            versions.put(item.get("id").asLong(), version == null || version.isNull() ? null : version.asLong());
+        }
+        return versions;
+    }
+
+    private static List<Long> ids(RestClient client, String section, String language) {
+        JsonNode items = client.get().uri("/api/v1/" + section)
+                .header("Accept-Language", language)
+                .retrieve()
+                .body(JsonNode.class);
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,64 @@
+package com.portfolio.backend.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.portfolio.backend.dto.SkillDTO;
+import com.portfolio.backend.exception.BadRequestException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Merge patches may only change editable members
+ * A patch setting the id, version or a timestamp would make the patched DTO
+ * differ from the stored one and trigger a write that changes nothing.
+ */
+class MergePatcherTest {
+
+    private static final ValidatorFactory VALIDATION = Validation.buildDefaultValidatorFactory();
+    private static final JsonMapper JSON = JsonMapper.builder().findAndAddModules().build();
+
+    private final MergePatcher mergePatcher = new MergePatcher(JSON, VALIDATION.getValidator());
+
+    private final SkillDTO current = SkillDTO.builder()
+            .id(7L)
+            .version(3L)
+            .name("Java")
+            .category("Backend")
+            .proficiencyLevel(90)
+            .displayOrder(1)
+            .build();
+
+    @AfterAll
+    static void closeValidation() {
+        VALIDATION.close();
+    }
+
+    @Test
+    void editableMemberIsPatched() throws Exception {
+        SkillDTO patched = mergePatcher.apply(current, JSON.readTree("{\"name\": \"Kotlin\"}"));
+
+        assertEquals("Kotlin", patched.getName());
+        assertEquals(current.getVersion(), patched.getVersion());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"id\": 8}",
+            "{\"version\": 4}",
+            "{\"version\": 3}",
+            "{\"createdAt\": \"2024-01-01T00:00:00\"}",
+            "{\"name\": \"Kotlin\", \"updatedAt\": null}" })
+    void readOnlyMemberIsRejected(String patch) throws Exception {
+        BadRequestException error = assertThrows(BadRequestException.class,
+                () -> mergePatcher.apply(current, JSON.readTree(patch)));
+
+        assertTrue(error.getMessage().startsWith("Read-only members cannot be patched"), error.getMessage());
+    }
+}
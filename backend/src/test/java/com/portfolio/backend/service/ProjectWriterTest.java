@@ -0,0 +1,117 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.config.SeedingStatus;
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.exception.PreconditionFailedException;
+import com.portfolio.backend.exception.ResourceNotFoundException;
+import com.portfolio.backend.monitoring.SqlStatistics;
+import com.portfolio.backend.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Project writes at a known version run without reading the project first
+ * An update is the conditional UPDATE plus the rewrite of the technologies, a
+ * delete the conditional DELETE of the technologies and of the project; a
+ * stale version gets 412 and leaves the project as it was.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class ProjectWriterTest {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private ProjectWriter projectWriter;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SeedingStatus seedingStatus;
+
+    private ProjectDTO project;
+
+    @BeforeEach
+    void createProject() throws InterruptedException {
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (!seedingStatus.isCompleted() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(seedingStatus.isCompleted(), "Sample data was not seeded");
+        project = adminService.createProject(project("Projet écrit sans lecture", List.of("Java", "SQL")));
+    }
+
+    @Test
+    void updateAtCurrentVersionRunsNoSelect() throws Exception {
+        ProjectDTO changes = project("Projet renommé", List.of("Java", "R2DBC", "H2"));
+
+        SqlStatistics statistics = SqlStatistics.capture(
+                () -> projectWriter.update(project.getId(), project.getVersion(), changes));
+
+        assertEquals(3, statistics.getStatements(), "UPDATE, DELETE and INSERT of the technologies");
+        Project stored = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals("Projet renommé", stored.getTitle());
+        assertEquals(List.of("Java", "R2DBC", "H2"), List.copyOf(stored.getTechnologies()));
+        assertEquals(project.getVersion() + 1, stored.getVersion());
+    }
+
+    @Test
+    void updateAtStaleVersionGets412AndWritesNothing() {
+        String ifMatch = "\"" + (project.getVersion() + 1) + "\"";
+
+        assertThrows(PreconditionFailedException.class, () -> adminService.updateProject(
+                project.getId(), project("Écriture perdue", List.of()), ifMatch));
+
+        Project stored = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals(project.getTitle(), stored.getTitle());
+        assertEquals(List.of("Java", "SQL"), List.copyOf(stored.getTechnologies()));
+        assertEquals(project.getVersion(), stored.getVersion());
+    }
+
+    @Test
+    void deleteAtCurrentVersionRunsNoSelect() throws Exception {
+        SqlStatistics statistics = SqlStatistics.capture(
+                () -> projectWriter.delete(project.getId(), project.getVersion()));
+
+        assertEquals(2, statistics.getStatements(), "DELETE of the technologies, then of the project");
+        assertTrue(projectRepository.findById(project.getId()).isEmpty());
+    }
+
+    @Test
+    void deleteAtStaleVersionGets412AndKeepsTechnologies() {
+        String ifMatch = "\"" + (project.getVersion() + 1) + "\"";
+
+        assertThrows(PreconditionFailedException.class, () -> adminService.deleteProject(project.getId(), ifMatch));
+
+        Project stored = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals(List.of("Java", "SQL"), List.copyOf(stored.getTechnologies()));
+    }
+
+    @Test
+    void writeToMissingProjectGets404() {
+        assertThrows(ResourceNotFoundException.class, () -> adminService.deleteProject(Long.MAX_VALUE, "\"0\""));
+    }
+
+    private static ProjectDTO project(String title, List<String> technologies) {
+        return ProjectDTO.builder()
+                .title(title)
+                .description("Projet créé par ProjectWriterTest")
+                .technologies(technologies)
+                .category("Test")
+                .featured(false)
+                .displayOrder(99)
+                .build();
+    }
+}
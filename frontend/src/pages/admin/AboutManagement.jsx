@@ -26,6 +26,8 @@ const AboutManagement = () => {
         twitterUrl: '',
         resumeUrl: ''
     });
+    // Version the form was loaded at, sent back so a save cannot overwrite another tab's
+    const [version, setVersion] = useState(null);
     const [errors, setErrors] = useState({});
 
     const fetchAbout = useCallback(async () => {
@@ -52,6 +54,7 @@ const AboutManagement = () => {
                     twitterUrl: response.data.twitterUrl || '',
                     resumeUrl: response.data.resumeUrl || ''
                 });
+                setVersion(response.data.version);
             }
         } catch (err) {
             console.error('[AboutManagement] Error fetching about:', err);
@@ -123,7 +126,7 @@ const AboutManagement = () => {
         setIsSubmitting(true);
 
         try {
-            await adminService.updateAbout(formData);
+            await adminService.updateAbout(formData, version);
             toast.success('About section updated successfully');
             setErrors({});
             // Refresh data to ensure consistency
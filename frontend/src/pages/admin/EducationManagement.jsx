@@ -87,7 +87,7 @@ const EducationManagement = () => {
 
         try {
             if (selectedEducation) {
-                await adminService.updateEducation(selectedEducation.id, formData);
+                await adminService.updateEducation(selectedEducation.id, formData, selectedEducation.version);
                 toast.success('Education updated successfully');
             } else {
                 await adminService.createEducation(formData);
@@ -106,7 +106,7 @@ const EducationManagement = () => {
     const handleDelete = async () => {
         setIsSubmitting(true);
         try {
-            await adminService.deleteEducation(selectedEducation.id);
+            await adminService.deleteEducation(selectedEducation.id, selectedEducation.version);
             toast.success('Education deleted successfully');
             fetchEducation();
             setIsDeleteDialogOpen(false);
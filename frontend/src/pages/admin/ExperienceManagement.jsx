@@ -86,7 +86,7 @@ const ExperienceManagement = () => {
 
         try {
             if (selectedExperience) {
-                await adminService.updateExperience(selectedExperience.id, formData);
+                await adminService.updateExperience(selectedExperience.id, formData, selectedExperience.version);
                 toast.success('Experience updated successfully');
             } else {
                 await adminService.createExperience(formData);
@@ -105,7 +105,7 @@ const ExperienceManagement = () => {
     const handleDelete = async () => {
         setIsSubmitting(true);
         try {
-            await adminService.deleteExperience(selectedExperience.id);
+            await adminService.deleteExperience(selectedExperience.id, selectedExperience.version);
             toast.success('Experience deleted successfully');
             fetchExperiences();
             setIsDeleteDialogOpen(false);
@@ -75,7 +75,7 @@ const InterestsManagement = () => {
 
         try {
             if (selectedInterest) {
-                await adminService.updateInterest(selectedInterest.id, formData);
+                await adminService.updateInterest(selectedInterest.id, formData, selectedInterest.version);
                 toast.success('Interest updated successfully');
             } else {
                 await adminService.createInterest(formData);
@@ -94,7 +94,7 @@ const InterestsManagement = () => {
     const handleDelete = async () => {
         setIsSubmitting(true);
         try {
-            await adminService.deleteInterest(selectedInterest.id);
+            await adminService.deleteInterest(selectedInterest.id, selectedInterest.version);
             toast.success('Interest deleted successfully');
             fetchInterests();
             setIsDeleteDialogOpen(false);
@@ -94,7 +94,7 @@ const LanguagesManagement = () => {
 
         try {
             if (selectedLanguage) {
-                await adminService.updateLanguage(selectedLanguage.id, formData);
+                await adminService.updateLanguage(selectedLanguage.id, formData, selectedLanguage.version);
                 toast.success('Language updated successfully');
             } else {
                 await adminService.createLanguage(formData);
@@ -113,7 +113,7 @@ const LanguagesManagement = () => {
     const handleDelete = async () => {
         setIsSubmitting(true);
         try {
-            await adminService.deleteLanguage(selectedLanguage.id);
+            await adminService.deleteLanguage(selectedLanguage.id, selectedLanguage.version);
             toast.success('Language deleted successfully');
             fetchLanguages();
             setIsDeleteDialogOpen(false);
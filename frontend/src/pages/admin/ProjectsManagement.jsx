@@ -122,7 +122,7 @@ const ProjectsManagement = () => {
             };
 
             if (selectedProject) {
-                await adminService.updateProject(selectedProject.id, projectData);
+                await adminService.updateProject(selectedProject.id, projectData, selectedProject.version);
                 toast.success('Project updated successfully');
             } else {
                 await adminService.createProject(projectData);
@@ -141,7 +141,7 @@ const ProjectsManagement = () => {
     const handleDelete = async () => {
         setIsSubmitting(true);
         try {
-            await adminService.deleteProject(selectedProject.id);
+            await adminService.deleteProject(selectedProject.id, selectedProject.version);
             toast.success('Project deleted successfully');
             fetchProjects();
             setIsDeleteDialogOpen(false);
@@ -97,7 +97,7 @@ const SkillsManagement = () => {
 
         try {
             if (selectedSkill) {
-                await adminService.updateSkill(selectedSkill.id, formData);
+                await adminService.updateSkill(selectedSkill.id, formData, selectedSkill.version);
                 toast.success('Skill updated successfully');
             } else {
                 await adminService.createSkill(formData);
@@ -116,7 +116,7 @@ const SkillsManagement = () => {
     const handleDelete = async () => {
         setIsSubmitting(true);
         try {
-            await adminService.deleteSkill(selectedSkill.id);
+            await adminService.deleteSkill(selectedSkill.id, selectedSkill.version);
             toast.success('Skill deleted successfully');
             fetchSkills();
             setIsDeleteDialogOpen(false);
@@ -1,4 +1,4 @@
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * About Service
@@ -17,10 +17,11 @@ const aboutService = {
     /**
      * Update about section (Admin)
      * @param {Object} data - About data
+     * @param {number} version - Version the about section was read at, none to create it
      * @returns {Promise<Object>} Updated about data
      */
-    update: async (data) => {
-        const response = await api.put('/v1/admin/about', data);
+    update: async (data, version) => {
+        const response = await api.put('/v1/admin/about', data, ifMatch(version));
         return response.data;
     },
 
@@ -137,6 +137,11 @@ const handleUnauthorized = () => {
  * Get a user-friendly error message based on status code and response data
  */
 const getErrorMessage = (status, data) => {
+    // The server's message for a stale version ("Precondition Failed") is not meant for users
+    if (status === 412) {
+        return 'This item was modified elsewhere, e.g. in another tab. Reload it and try again.';
+    }
+
     // First try to use the server's error message
     if (data?.message) {
         return data.message;
@@ -169,6 +174,14 @@ const getErrorMessage = (status, data) => {
     }
 };
 
+/**
+ * Request config sending the version an admin entity was read at as If-Match
+ * The backend rejects the write with 412 if the entity was modified since.
+ */
+export const ifMatch = (version) => (
+    version != null ? { headers: { 'If-Match': `"${version}"` } } : {}
+);
+
 /**
  * Check if user is authenticated
  * Useful for components that need to verify auth status before making API calls
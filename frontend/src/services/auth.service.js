@@ -38,9 +38,16 @@ const authService = {
 
     /**
      * Log out the current user
-     * Clears all stored authentication data
+     * Revokes the token on the server and clears all stored authentication data
      */
     logout: () => {
+        const token = localStorage.getItem('token');
+        if (token) {
+            // Fire and forget: local state is cleared regardless of the outcome
+            api.post('/auth/logout', null, {
+                headers: { Authorization: `Bearer ${token}` },
+            }).catch(() => {});
+        }
         localStorage.removeItem('token');
         localStorage.removeItem('user');
     },
@@ -1,4 +1,4 @@
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * Education Service
@@ -38,20 +38,22 @@ const educationService = {
      * Update an existing education entry (Admin)
      * @param {number} id - Education ID
      * @param {Object} data - Updated education data
+     * @param {number} version - Version the item was read at
      * @returns {Promise<Object>} Updated education entry
      */
-    update: async (id, data) => {
-        const response = await api.put(`/v1/admin/education/${id}`, data);
+    update: async (id, data, version) => {
+        const response = await api.put(`/v1/admin/education/${id}`, data, ifMatch(version));
         return response.data;
     },
 
     /**
      * Delete an education entry (Admin)
      * @param {number} id - Education ID
+     * @param {number} version - Version the item was read at
      * @returns {Promise<void>}
      */
-    delete: async (id) => {
-        await api.delete(`/v1/admin/education/${id}`);
+    delete: async (id, version) => {
+        await api.delete(`/v1/admin/education/${id}`, ifMatch(version));
     },
 
     /**
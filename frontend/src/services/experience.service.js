@@ -1,4 +1,4 @@
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * Experience Service
@@ -38,20 +38,22 @@ const experienceService = {
      * Update an existing experience (Admin)
      * @param {number} id - Experience ID
      * @param {Object} data - Updated experience data
+     * @param {number} version - Version the item was read at
      * @returns {Promise<Object>} Updated experience
      */
-    update: async (id, data) => {
-        const response = await api.put(`/v1/admin/experiences/${id}`, data);
+    update: async (id, data, version) => {
+        const response = await api.put(`/v1/admin/experiences/${id}`, data, ifMatch(version));
         return response.data;
     },
 
     /**
      * Delete an experience (Admin)
      * @param {number} id - Experience ID
+     * @param {number} version - Version the item was read at
      * @returns {Promise<void>}
      */
-    delete: async (id) => {
-        await api.delete(`/v1/admin/experiences/${id}`);
+    delete: async (id, version) => {
+        await api.delete(`/v1/admin/experiences/${id}`, ifMatch(version));
     },
 
     /**
@@ -6,7 +6,7 @@
  */
 
 // Core API instance
-export { default as api, isAuthenticated, getAuthToken } from './api';
+export { default as api, isAuthenticated, getAuthToken, ifMatch } from './api';
 
 // Internal Service Imports
 import authService from './auth.service';
@@ -18,7 +18,7 @@ import projectsService from './projects.service';
 import languagesService from './languages.service';
 import interestsService from './interests.service';
 import aboutService from './about.service';
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * Portfolio Services (Public endpoints)
@@ -43,48 +43,49 @@ export const contactService = {
 
 /**
  * Admin Services (Protected - requires JWT token)
- * These endpoints require authentication
+ * These endpoints require authentication. Updates and deletes take the version
+ * the entity was read at, sent as If-Match.
  */
 export const adminService = {
     // Skills Management
     getSkills: (config) => api.get('/v1/admin/skills', config),
     createSkill: (data) => api.post('/v1/admin/skills', data),
-    updateSkill: (id, data) => api.put(`/v1/admin/skills/${id}`, data),
-    deleteSkill: (id) => api.delete(`/v1/admin/skills/${id}`),
+    updateSkill: (id, data, version) => api.put(`/v1/admin/skills/${id}`, data, ifMatch(version)),
+    deleteSkill: (id, version) => api.delete(`/v1/admin/skills/${id}`, ifMatch(version)),
 
     // Projects Management
     getProjects: (config) => api.get('/v1/admin/projects', config),
     createProject: (data) => api.post('/v1/admin/projects', data),
-    updateProject: (id, data) => api.put(`/v1/admin/projects/${id}`, data),
-    deleteProject: (id) => api.delete(`/v1/admin/projects/${id}`),
+    updateProject: (id, data, version) => api.put(`/v1/admin/projects/${id}`, data, ifMatch(version)),
+    deleteProject: (id, version) => api.delete(`/v1/admin/projects/${id}`, ifMatch(version)),
 
     // Experience Management
     getExperiences: (config) => api.get('/v1/admin/experiences', config),
     createExperience: (data) => api.post('/v1/admin/experiences', data),
-    updateExperience: (id, data) => api.put(`/v1/admin/experiences/${id}`, data),
-    deleteExperience: (id) => api.delete(`/v1/admin/experiences/${id}`),
+    updateExperience: (id, data, version) => api.put(`/v1/admin/experiences/${id}`, data, ifMatch(version)),
+    deleteExperience: (id, version) => api.delete(`/v1/admin/experiences/${id}`, ifMatch(version)),
 
     // Education Management
     getEducation: (config) => api.get('/v1/admin/education', config),
     createEducation: (data) => api.post('/v1/admin/education', data),
-    updateEducation: (id, data) => api.put(`/v1/admin/education/${id}`, data),
-    deleteEducation: (id) => api.delete(`/v1/admin/education/${id}`),
+    updateEducation: (id, data, version) => api.put(`/v1/admin/education/${id}`, data, ifMatch(version)),
+    deleteEducation: (id, version) => api.delete(`/v1/admin/education/${id}`, ifMatch(version)),
 
     // Languages Management
     getLanguages: (config) => api.get('/v1/admin/languages', config),
     createLanguage: (data) => api.post('/v1/admin/languages', data),
-    updateLanguage: (id, data) => api.put(`/v1/admin/languages/${id}`, data),
-    deleteLanguage: (id) => api.delete(`/v1/admin/languages/${id}`),
+    updateLanguage: (id, data, version) => api.put(`/v1/admin/languages/${id}`, data, ifMatch(version)),
+    deleteLanguage: (id, version) => api.delete(`/v1/admin/languages/${id}`, ifMatch(version)),
 
     // Interests Management
     getInterests: (config) => api.get('/v1/admin/interests', config),
     createInterest: (data) => api.post('/v1/admin/interests', data),
-    updateInterest: (id, data) => api.put(`/v1/admin/interests/${id}`, data),
-    deleteInterest: (id) => api.delete(`/v1/admin/interests/${id}`),
+    updateInterest: (id, data, version) => api.put(`/v1/admin/interests/${id}`, data, ifMatch(version)),
+    deleteInterest: (id, version) => api.delete(`/v1/admin/interests/${id}`, ifMatch(version)),
 
     // About Management
     getAbout: (config) => api.get('/v1/admin/about', config),
-    updateAbout: (data) => api.put('/v1/admin/about', data),
+    updateAbout: (data, version) => api.put('/v1/admin/about', data, ifMatch(version)),
 
     // Messages Management
     getMessages: (params, config) => api.get('/v1/admin/messages', { params, ...config }),
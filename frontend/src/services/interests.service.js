@@ -1,4 +1,4 @@
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * Interests Service
@@ -38,20 +38,22 @@ const interestsService = {
      * Update an existing interest (Admin)
      * @param {number} id - Interest ID
      * @param {Object} data - Updated interest data
+     * @param {number} version - Version the item was read at
      * @returns {Promise<Object>} Updated interest
      */
-    update: async (id, data) => {
-        const response = await api.put(`/v1/admin/interests/${id}`, data);
+    update: async (id, data, version) => {
+        const response = await api.put(`/v1/admin/interests/${id}`, data, ifMatch(version));
         return response.data;
     },
 
     /**
      * Delete an interest (Admin)
      * @param {number} id - Interest ID
+     * @param {number} version - Version the item was read at
      * @returns {Promise<void>}
      */
-    delete: async (id) => {
-        await api.delete(`/v1/admin/interests/${id}`);
+    delete: async (id, version) => {
+        await api.delete(`/v1/admin/interests/${id}`, ifMatch(version));
     },
 
     /**
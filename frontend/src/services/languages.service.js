@@ -1,4 +1,4 @@
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * Languages Service
@@ -38,20 +38,22 @@ const languagesService = {
      * Update an existing language (Admin)
      * @param {number} id - Language ID
      * @param {Object} data - Updated language data
+     * @param {number} version - Version the item was read at
      * @returns {Promise<Object>} Updated language
      */
-    update: async (id, data) => {
-        const response = await api.put(`/v1/admin/languages/${id}`, data);
+    update: async (id, data, version) => {
+        const response = await api.put(`/v1/admin/languages/${id}`, data, ifMatch(version));
         return response.data;
     },
 
     /**
      * Delete a language (Admin)
      * @param {number} id - Language ID
+     * @param {number} version - Version the item was read at
      * @returns {Promise<void>}
      */
-    delete: async (id) => {
-        await api.delete(`/v1/admin/languages/${id}`);
+    delete: async (id, version) => {
+        await api.delete(`/v1/admin/languages/${id}`, ifMatch(version));
     },
 
     /**
@@ -1,4 +1,4 @@
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * Projects Service
@@ -38,20 +38,22 @@ const projectsService = {
      * Update an existing project (Admin)
      * @param {number} id - Project ID
      * @param {Object} data - Updated project data
+     * @param {number} version - Version the item was read at
      * @returns {Promise<Object>} Updated project
      */
-    update: async (id, data) => {
-        const response = await api.put(`/v1/admin/projects/${id}`, data);
+    update: async (id, data, version) => {
+        const response = await api.put(`/v1/admin/projects/${id}`, data, ifMatch(version));
         return response.data;
     },
 
     /**
      * Delete a project (Admin)
      * @param {number} id - Project ID
+     * @param {number} version - Version the item was read at
      * @returns {Promise<void>}
      */
-    delete: async (id) => {
-        await api.delete(`/v1/admin/projects/${id}`);
+    delete: async (id, version) => {
+        await api.delete(`/v1/admin/projects/${id}`, ifMatch(version));
     },
 
     /**
@@ -1,4 +1,4 @@
-import api from './api';
+import api, { ifMatch } from './api';
 
 /**
  * Skills Service
@@ -38,20 +38,22 @@ const skillsService = {
      * Update an existing skill (Admin)
      * @param {number} id - Skill ID
      * @param {Object} data - Updated skill data
+     * @param {number} version - Version the item was read at
      * @returns {Promise<Object>} Updated skill
      */
-    update: async (id, data) => {
-        const response = await api.put(`/v1/admin/skills/${id}`, data);
+    update: async (id, data, version) => {
+        const response = await api.put(`/v1/admin/skills/${id}`, data, ifMatch(version));
         return response.data;
     },
 
     /**
      * Delete a skill (Admin)
      * @param {number} id - Skill ID
+     * @param {number} version - Version the item was read at
      * @returns {Promise<void>}
      */
-    delete: async (id) => {
-        await api.delete(`/v1/admin/skills/${id}`);
+    delete: async (id, version) => {
+        await api.delete(`/v1/admin/skills/${id}`, ifMatch(version));
     },
 
     /**